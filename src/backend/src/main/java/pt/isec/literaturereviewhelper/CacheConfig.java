@@ -0,0 +1,50 @@
+package pt.isec.literaturereviewhelper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import pt.isec.literaturereviewhelper.caches.DiskPageStore;
+import pt.isec.literaturereviewhelper.caches.UpstreamPageCache;
+
+@Configuration
+public class CacheConfig {
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final Environment environment;
+
+    public CacheConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public UpstreamPageCache upstreamPageCache() {
+        long maxArticles = environment.getProperty(
+                "upstream.cache.max-articles", Long.class, UpstreamPageCache.DEFAULT_MAX_ARTICLES);
+        return new UpstreamPageCache(maxArticles, diskPageStore());
+    }
+
+    /**
+     * Opens the disk tier of the page cache. A store that cannot be opened (e.g. read-only home directory)
+     * only disables the tier, the backend keeps caching in memory.
+     */
+    private DiskPageStore diskPageStore() {
+        if (!environment.getProperty("upstream.cache.disk.enabled", Boolean.class, true)) {
+            return null;
+        }
+
+        Path directory = Path.of(environment.getProperty("upstream.cache.disk.path",
+                System.getProperty("user.home") + "/.literature-review-helper/cache"));
+        long maxBytes = environment.getProperty("upstream.cache.disk.max-bytes", Long.class, 64L * 1024 * 1024);
+        try {
+            return new DiskPageStore(directory, maxBytes);
+        } catch (IOException e) {
+            log.warn("Disk page cache disabled, could not open {}: {}", directory, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package pt.isec.literaturereviewhelper.caches;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import pt.isec.literaturereviewhelper.models.Article;
+
+/**
+ * Disk-backed page store used as the second tier of the upstream page cache.
+ * <p>
+ * Pages are appended to a single log file; the index (key hash to record offset) is kept in memory and rebuilt
+ * by scanning the log on open, so a torn write at the tail is simply truncated away. When the log outgrows its
+ * byte budget it is compacted, keeping the most recently written live pages.
+ * <p>
+ * Record layout: {@code magic:int | keyHash:byte[32] | expiresAt:long | length:int | payload:byte[length] | crc:int},
+ * where the payload is the gzipped JSON of the page's articles. Keys are stored hashed so API keys never hit the disk.
+ */
+public class DiskPageStore implements Closeable {
+    static final String LOG_FILE = "pages.log";
+    private static final int MAGIC = 0x4C524831; // "LRH1"
+    private static final int HASH_SIZE = 32;
+    private static final int HEADER_SIZE = Integer.BYTES + HASH_SIZE + Long.BYTES + Integer.BYTES;
+    private static final int RECORD_OVERHEAD = HEADER_SIZE + Integer.BYTES;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final Path directory;
+    private final long maxBytes;
+    private final Clock clock;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Slot> index = new HashMap<>();
+    private FileChannel channel;
+    private long size;
+
+    /**
+     * Opens (or creates) the store in the given directory.
+     * @param directory Directory holding the log file
+     * @param maxBytes Byte budget of the log file
+     * @throws IOException if the directory or the log cannot be opened
+     */
+    public DiskPageStore(Path directory, long maxBytes) throws IOException {
+        this(directory, maxBytes, Clock.systemUTC());
+    }
+
+    DiskPageStore(Path directory, long maxBytes, Clock clock) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+
+        ObjectMapper mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        TypeReference<List<Article>> type = new TypeReference<>() { };
+        this.writer = mapper.writerFor(type);
+        this.reader = mapper.readerFor(type);
+
+        Files.createDirectories(directory);
+        this.channel = openLog(directory.resolve(LOG_FILE));
+        this.size = rebuildIndex();
+    }
+
+    /**
+     * Returns the stored page for a key, if present and not yet expired.
+     * @param key Page key
+     * @return the stored page, or null on a miss
+     */
+    public StoredPage get(PageKey key) {
+        String hash = hash(key);
+        lock.readLock().lock();
+        try {
+            Slot slot = index.get(hash);
+            if (slot == null || !slot.expiresAt().isAfter(clock.instant())) {
+                return null;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(slot.length());
+            long position = slot.offset() + HEADER_SIZE;
+            while (payload.hasRemaining()) {
+                int read = channel.read(payload, position + payload.position());
+                if (read < 0) {
+                    return null;
+                }
+            }
+            return new StoredPage(decode(payload.array()), slot.expiresAt());
+        } catch (IOException e) {
+            log.warn("Could not read cached page from disk: {}", e.getMessage());
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a page to the log, compacting it first when the byte budget would be exceeded.
+     * @param key Page key
+     * @param articles Articles of the page
+     * @param expiresAt Instant after which the page must no longer be served
+     */
+    public void put(PageKey key, List<Article> articles, Instant expiresAt) {
+        try {
+            byte[] payload = encode(articles);
+            int recordSize = RECORD_OVERHEAD + payload.length;
+            if (recordSize > maxBytes) {
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (size + recordSize > maxBytes) {
+                    compact(maxBytes / 2);
+                }
+                String hash = hash(key);
+                ByteBuffer record = record(HexFormat.of().parseHex(hash), expiresAt.toEpochMilli(), payload);
+                long offset = size;
+                while (record.hasRemaining()) {
+                    size += channel.write(record, size);
+                }
+                index.put(hash, new Slot(offset, payload.length, expiresAt));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (IOException e) {
+            log.warn("Could not write cached page to disk: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the current size of the log file.
+     * @return size in bytes
+     */
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log keeping the newest live records that fit in the target size.
+     * Must be called with the write lock held.
+     */
+    private void compact(long targetBytes) throws IOException {
+        Instant now = clock.instant();
+        List<Map.Entry<String, Slot>> live = new ArrayList<>(index.entrySet());
+        live.removeIf(e -> !e.getValue().expiresAt().isAfter(now));
+        live.sort(Comparator.comparingLong((Map.Entry<String, Slot> e) -> e.getValue().offset()).reversed());
+
+        List<Map.Entry<String, Slot>> kept = new ArrayList<>();
+        long keptBytes = 0;
+        for (Map.Entry<String, Slot> entry : live) {
+            long recordSize = RECORD_OVERHEAD + (long) entry.getValue().length();
+            if (keptBytes + recordSize > targetBytes) {
+                break;
+            }
+            kept.add(entry);
+            keptBytes += recordSize;
+        }
+        kept.sort(Comparator.comparingLong(e -> e.getValue().offset()));
+
+        Path logFile = directory.resolve(LOG_FILE);
+        Path compacted = directory.resolve(LOG_FILE + ".compact");
+        Map<String, Slot> compactedIndex = new HashMap<>();
+        long written = 0;
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<String, Slot> entry : kept) {
+                Slot slot = entry.getValue();
+                long recordSize = RECORD_OVERHEAD + (long) slot.length();
+                channel.transferTo(slot.offset(), recordSize, out);
+                compactedIndex.put(entry.getKey(), new Slot(written, slot.length(), slot.expiresAt()));
+                written += recordSize;
+            }
+            out.force(false);
+        }
+
+        // The log is closed while it is replaced, and reopened whether or not that succeeds; if not, the old log,
+        // index and size all still hold
+        channel.close();
+        try {
+            replaceLog(compacted, logFile);
+        } finally {
+            channel = openLog(logFile);
+        }
+        index.clear();
+        index.putAll(compactedIndex);
+        size = written;
+        log.info("Compacted disk page cache to {} pages ({} bytes)", index.size(), size);
+    }
+
+    /**
+     * Replaces the log with its compacted copy.
+     */
+    void replaceLog(Path compacted, Path logFile) throws IOException {
+        Files.move(compacted, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Scans the log, indexing every valid record and truncating a torn or corrupt tail.
+     * @return the size of the valid part of the log
+     */
+    private long rebuildIndex() throws IOException {
+        long fileSize = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        while (position + RECORD_OVERHEAD <= fileSize) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                break;
+            }
+            byte[] keyHash = new byte[HASH_SIZE];
+            header.get(keyHash);
+            long expiresAt = header.getLong();
+            int length = header.getInt();
+            if (length < 0 || position + RECORD_OVERHEAD + length > fileSize) {
+                break;
+            }
+
+            ByteBuffer body = ByteBuffer.allocate(length + Integer.BYTES);
+            channel.read(body, position + HEADER_SIZE);
+            body.flip();
+            byte[] payload = new byte[length];
+            body.get(payload);
+            if (body.getInt() != crc(keyHash, expiresAt, payload)) {
+                break;
+            }
+
+            index.put(HexFormat.of().formatHex(keyHash), new Slot(position, length, Instant.ofEpochMilli(expiresAt)));
+            position += RECORD_OVERHEAD + length;
+        }
+
+        if (position < fileSize) {
+            log.warn("Truncating disk page cache at byte {} of {}", position, fileSize);
+            channel.truncate(position);
+        }
+        index.values().removeIf(slot -> !slot.expiresAt().isAfter(clock.instant()));
+        return position;
+    }
+
+    private static FileChannel openLog(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static ByteBuffer record(byte[] keyHash, long expiresAt, byte[] payload) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + payload.length);
+        record.putInt(MAGIC)
+                .put(keyHash)
+                .putLong(expiresAt)
+                .putInt(payload.length)
+                .put(payload)
+                .putInt(crc(keyHash, expiresAt, payload));
+        return record.flip();
+    }
+
+    private static int crc(byte[] keyHash, long expiresAt, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(keyHash);
+        crc.update(ByteBuffer.allocate(Long.BYTES + Integer.BYTES).putLong(expiresAt).putInt(payload.length).flip());
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private byte[] encode(List<Article> articles) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, articles);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<Article> decode(byte[] payload) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return reader.readValue(in);
+        }
+    }
+
+    private static String hash(PageKey key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((key.engine().name() + '\n' + key.request()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A page read back from disk, with the instant it stops being valid.
+     */
+    public record StoredPage(List<Article> articles, Instant expiresAt) {
+    }
+
+    private record Slot(long offset, int length, Instant expiresAt) {
+    }
+}
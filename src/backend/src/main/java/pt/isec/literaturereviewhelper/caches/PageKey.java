@@ -0,0 +1,20 @@
+package pt.isec.literaturereviewhelper.caches;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+
+/**
+ * Identifies an upstream page by engine and normalized request.
+ * The request is the engine's mapped parameters sorted by name, so parameter order never causes a miss.
+ */
+public record PageKey(Engines engine, String request) {
+
+    public static PageKey of(Engines engine, Map<String, Object> params) {
+        StringJoiner request = new StringJoiner("&");
+        new TreeMap<>(params).forEach((k, v) -> request.add(k + "=" + v));
+        return new PageKey(engine, request.toString());
+    }
+}
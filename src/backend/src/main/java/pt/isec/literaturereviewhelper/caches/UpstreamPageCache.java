@@ -0,0 +1,184 @@
+package pt.isec.literaturereviewhelper.caches;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import pt.isec.literaturereviewhelper.interfaces.IPageCache;
+import pt.isec.literaturereviewhelper.models.Article;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Cache of upstream pages shared by every engine instance.
+ * Entries are weighed by the number of articles they hold and expire after the TTL chosen by their engine.
+ * An optional {@link DiskPageStore} acts as a second tier, so pages survive restarts of the backend.
+ * <p>
+ * Loads are coalesced: while a page is being fetched, later callers asking for the same key subscribe to the
+ * fetch already in flight instead of issuing their own upstream request.
+ */
+public class UpstreamPageCache implements IPageCache, MeterBinder, Closeable {
+    public static final String CACHE_NAME = "upstreamPages";
+    public static final long DEFAULT_MAX_ARTICLES = 50_000L;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final Cache<PageKey, CachedPage> cache;
+    private final DiskPageStore diskStore;
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder diskMisses = new LongAdder();
+    private final ConcurrentMap<PageKey, Mono<List<Article>>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public UpstreamPageCache(long maxArticles) {
+        this(maxArticles, null);
+    }
+
+    /**
+     * @param maxArticles Maximum number of articles held in memory
+     * @param diskStore Second tier consulted on memory misses, or null to keep pages in memory only
+     */
+    public UpstreamPageCache(long maxArticles, DiskPageStore diskStore) {
+        this(maxArticles, diskStore, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    UpstreamPageCache(long maxArticles, DiskPageStore diskStore, Ticker ticker, Executor executor) {
+        this.diskStore = diskStore;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxArticles)
+                .weigher((PageKey key, CachedPage page) -> Math.max(1, page.articles().size()))
+                .expireAfter(Expiry.writing((PageKey key, CachedPage page) -> page.ttl()))
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Mono<List<Article>> getOrLoad(PageKey key, Duration ttl, Supplier<Mono<List<Article>>> loader) {
+        return Mono.defer(() -> {
+            CachedPage cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached.articles());
+            }
+
+            Mono<List<Article>> load = load(key, ttl, loader);
+            Mono<List<Article>> shared = inFlight.putIfAbsent(key, load);
+            if (shared != null) {
+                coalesced.increment();
+                return shared;
+            }
+            return load;
+        });
+    }
+
+    /**
+     * Builds a single load of a page that concurrent callers share through the in-flight map until it completes or
+     * is cancelled, at which point it removes itself from that map.
+     */
+    private Mono<List<Article>> load(PageKey key, Duration ttl, Supplier<Mono<List<Article>>> loader) {
+        AtomicReference<Mono<List<Article>>> self = new AtomicReference<>();
+        Mono<List<Article>> load = Mono.defer(() -> {
+                    CachedPage cached = cache.policy().getIfPresentQuietly(key);
+                    if (cached != null) {
+                        return Mono.just(cached.articles());
+                    }
+                    return fromDisk(key).switchIfEmpty(Mono.defer(() -> loader.get()
+                            .doOnNext(articles -> store(key, List.copyOf(articles), ttl))));
+                })
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .share();
+        self.set(load);
+        return load;
+    }
+
+    private Mono<List<Article>> fromDisk(PageKey key) {
+        if (diskStore == null) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> diskStore.get(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSuccess(stored -> (stored == null ? diskMisses : diskHits).increment())
+                .map(stored -> {
+                    Duration remaining = Duration.between(Instant.now(), stored.expiresAt());
+                    if (!remaining.isNegative() && !remaining.isZero()) {
+                        cache.put(key, new CachedPage(stored.articles(), remaining));
+                    }
+                    return stored.articles();
+                });
+    }
+
+    private void store(PageKey key, List<Article> articles, Duration ttl) {
+        cache.put(key, new CachedPage(articles, ttl));
+        if (diskStore != null) {
+            Instant expiresAt = Instant.now().plus(ttl);
+            Schedulers.boundedElastic().schedule(() -> diskStore.put(key, articles, expiresAt));
+        }
+    }
+
+    /**
+     * Publishes hit/miss/eviction statistics as {@code cache.*} meters tagged {@code cache=upstreamPages},
+     * along with {@code cache.coalesced}, the number of loads that joined a fetch already in flight.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        FunctionCounter.builder("cache.coalesced", coalesced, LongAdder::sum)
+                .tags("cache", CACHE_NAME)
+                .description("Page loads served by joining an identical request already in flight")
+                .register(registry);
+        if (diskStore != null) {
+            FunctionCounter.builder("cache.disk.gets", diskHits, LongAdder::sum)
+                    .tags("cache", CACHE_NAME, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.disk.gets", diskMisses, LongAdder::sum)
+                    .tags("cache", CACHE_NAME, "result", "miss")
+                    .register(registry);
+            Gauge.builder("cache.disk.size", diskStore, DiskPageStore::sizeInBytes)
+                    .tags("cache", CACHE_NAME)
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (diskStore != null) {
+            log.info("Closing disk page cache");
+            diskStore.close();
+        }
+    }
+
+    /**
+     * Drops expired and evicted entries right away instead of on the next cache access.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private record CachedPage(List<Article> articles, Duration ttl) {
+    }
+}
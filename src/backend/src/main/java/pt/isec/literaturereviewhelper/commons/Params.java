@@ -17,6 +17,7 @@ public final class Params {
     public static final String EXCLUDE_VENUE     = "exclude_venue";
     public static final String TITLE             = "title";
     public static final String EXCLUDE_TITLE     = "exclude_title";
+    public static final String NEAR_DUPLICATE_THRESHOLD = "near_duplicate_threshold";
 
     /**
      * Delimiter used to separate multiple values in a single parameter.
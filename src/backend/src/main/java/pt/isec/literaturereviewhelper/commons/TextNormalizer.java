@@ -0,0 +1,148 @@
+package pt.isec.literaturereviewhelper.commons;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class TextNormalizer {
+    private TextNormalizer() {}
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final Pattern DOI = Pattern.compile("10\\.\\d{4,9}/\\S+");
+    /** Punctuation that only separates words, and that normalizing may drop without changing what a text means. */
+    private static final String SEPARATORS = ",.;:!?'\"/\\()[]{}-_";
+
+    /**
+     * Normalizes text for matching: case-folded, accents stripped, and every run of punctuation or whitespace
+     * collapsed into a single space, with none at the ends.
+     *
+     * For example "Müller-Lüdenscheidt, H." becomes "muller ludenscheidt h".
+     *
+     * @param text the text to normalize, may be null
+     * @return the normalized text, empty for null
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        // Decomposition only changes text with non-ASCII characters, which most titles and names do not have
+        String decomposed = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+        // Skipping runs of separators and marks only ever shortens the text
+        char[] normalized = new char[decomposed.length()];
+        int length = 0;
+        boolean separator = false;
+        for (int i = 0; i < decomposed.length(); ) {
+            int codePoint = decomposed.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isMark(codePoint)) {
+                continue;
+            }
+            if (!Character.isLetterOrDigit(codePoint)) {
+                separator = true;
+                continue;
+            }
+            if (separator && length > 0) {
+                normalized[length++] = ' ';
+            }
+            separator = false;
+            length += Character.toChars(Character.toLowerCase(codePoint), normalized, length);
+        }
+        return new String(normalized, 0, length);
+    }
+
+    /**
+     * Tells whether text holds symbols that {@link #normalize(String)} would strip though they carry meaning, such
+     * as the "+" of "C++", the "#" of "C#" or the "&" of "AT&T", as opposed to punctuation merely separating words.
+     *
+     * @param text the text to check, may be null
+     * @return true if the text holds any character other than letters, digits, marks, whitespace and separators
+     */
+    public static boolean hasSymbols(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint) || Character.isWhitespace(codePoint) || isMark(codePoint)
+                    || isSeparator(codePoint)) {
+                continue;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Normalizes a DOI for matching: any resolver URL or "doi:" prefix is dropped, and the DOI is case-folded, as
+     * DOIs are case insensitive.
+     *
+     * For example "https://doi.org/10.1145/3368089.3409741" and "DOI:10.1145/3368089.3409741" both become
+     * "10.1145/3368089.3409741".
+     *
+     * @param doi the DOI as given by an engine, may be null
+     * @return the normalized DOI, empty for null or text holding no DOI
+     */
+    public static String normalizeDoi(String doi) {
+        if (doi == null || doi.isEmpty()) {
+            return "";
+        }
+        Matcher matcher = DOI.matcher(doi);
+        return matcher.find() ? matcher.group().toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * Hashes text to a 64-bit fingerprint (FNV-1a over its UTF-16 code units) without allocating.
+     *
+     * Meant for normalized text: two texts that normalize alike share a fingerprint. Distinct texts collide with
+     * a probability around n²/2⁶⁵ for n texts, about one in thirty million for a million titles.
+     *
+     * @param text the text to hash
+     * @return the fingerprint
+     */
+    public static long fingerprint(CharSequence text) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSeparator(int codePoint) {
+        if (codePoint < 0x80) {
+            return SEPARATORS.indexOf(codePoint) >= 0;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.DASH_PUNCTUATION
+                || type == Character.START_PUNCTUATION
+                || type == Character.END_PUNCTUATION
+                || type == Character.INITIAL_QUOTE_PUNCTUATION
+                || type == Character.FINAL_QUOTE_PUNCTUATION
+                || type == Character.CONNECTOR_PUNCTUATION;
+    }
+
+    private static boolean isMark(int codePoint) {
+        if (codePoint < 0x300) {
+            return false;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+}
@@ -1,6 +1,7 @@
 package pt.isec.literaturereviewhelper.controllers;
 
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 import pt.isec.literaturereviewhelper.commons.*;
 import pt.isec.literaturereviewhelper.dtos.SearchResponseDto;
 import pt.isec.literaturereviewhelper.interfaces.ILiteratureReviewService;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.Map;
 
@@ -38,4 +40,21 @@ public class LiteratureSearchController {
 
         return literatureReviewService.performLiteratureSearch(allParams, apiKeysByEngine);
     }
+
+    /**
+     * Streaming variant of the search endpoint, as Server-Sent Events.
+     * Emits "article" and "progress" events as engines respond, then a final "summary" event.
+     */
+    @GetMapping(value = "/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> searchStream(
+        @RequestParam Map<String, String> allParams,
+        @RequestHeader(value = RequestHeaderUtils.X_API_KEYS, required = false) String apiKeysHeader) {
+
+        var apiKeysByEngine = RequestHeaderUtils.parseApiKeysHeader(apiKeysHeader);
+
+        return literatureReviewService.streamLiteratureSearch(allParams, apiKeysByEngine)
+                .map(event -> ServerSentEvent.builder(event.getData())
+                        .event(event.getType().name().toLowerCase())
+                        .build());
+    }
 }
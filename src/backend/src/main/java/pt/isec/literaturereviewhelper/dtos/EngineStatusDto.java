@@ -0,0 +1,36 @@
+package pt.isec.literaturereviewhelper.dtos;
+
+import java.util.Map;
+
+/**
+ * Outcome of the page requests an engine issued for a search.
+ * Pages that failed after their retries are listed with the error that ended them; the other pages are still
+ * part of the results.
+ */
+public class EngineStatusDto {
+    private final int pagesRequested;
+    private final int pagesSucceeded;
+    private final Map<Integer, String> failedPages;
+
+    public EngineStatusDto(int pagesRequested, int pagesSucceeded, Map<Integer, String> failedPages) {
+        this.pagesRequested = pagesRequested;
+        this.pagesSucceeded = pagesSucceeded;
+        this.failedPages = failedPages;
+    }
+
+    public int getPagesRequested() {
+        return pagesRequested;
+    }
+
+    public int getPagesSucceeded() {
+        return pagesSucceeded;
+    }
+
+    public Map<Integer, String> getFailedPages() {
+        return failedPages;
+    }
+
+    public boolean isPartial() {
+        return !failedPages.isEmpty();
+    }
+}
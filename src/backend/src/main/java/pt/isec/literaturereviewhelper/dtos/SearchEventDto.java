@@ -0,0 +1,42 @@
+package pt.isec.literaturereviewhelper.dtos;
+
+import pt.isec.literaturereviewhelper.models.Article;
+
+/**
+ * A single event of a streamed search: an article, a per-engine progress update or the final summary.
+ */
+public class SearchEventDto {
+    public enum Type {
+        ARTICLE,
+        PROGRESS,
+        SUMMARY
+    }
+
+    private final Type type;
+    private final Object data;
+
+    private SearchEventDto(Type type, Object data) {
+        this.type = type;
+        this.data = data;
+    }
+
+    public static SearchEventDto article(Article article) {
+        return new SearchEventDto(Type.ARTICLE, article);
+    }
+
+    public static SearchEventDto progress(SearchProgressDto progress) {
+        return new SearchEventDto(Type.PROGRESS, progress);
+    }
+
+    public static SearchEventDto summary(SearchResponseDto summary) {
+        return new SearchEventDto(Type.SUMMARY, summary);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Object getData() {
+        return data;
+    }
+}
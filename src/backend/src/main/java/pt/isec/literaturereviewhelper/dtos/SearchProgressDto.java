@@ -0,0 +1,30 @@
+package pt.isec.literaturereviewhelper.dtos;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+
+/**
+ * Progress of one engine during a streamed search.
+ */
+public class SearchProgressDto {
+    private final Engines engine;
+    private final int pagesReceived;
+    private final int articles;
+
+    public SearchProgressDto(Engines engine, int pagesReceived, int articles) {
+        this.engine = engine;
+        this.pagesReceived = pagesReceived;
+        this.articles = articles;
+    }
+
+    public Engines getEngine() {
+        return engine;
+    }
+
+    public int getPagesReceived() {
+        return pagesReceived;
+    }
+
+    public int getArticles() {
+        return articles;
+    }
+}
@@ -16,10 +16,14 @@ public class SearchResponseDto {
 
     private int duplicatedResultsRemoved;
 
+    private int nearDuplicatedResultsRemoved;
+
     private Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> filterImpactByEngine;
 
     private List<Article> articles;
 
+    private Map<Engines, EngineStatusDto> statusByEngine;
+
     public SearchResponseDto(String query, 
         int totalArticles, 
         Map<Engines, Integer> articlesByEngine, 
@@ -27,12 +31,37 @@ public class SearchResponseDto {
         int duplicatedResultsRemoved, 
         Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> filterImpactByEngine) {
 
+        this(query, totalArticles, articlesByEngine, articles, duplicatedResultsRemoved, filterImpactByEngine, Map.of());
+    }
+
+    public SearchResponseDto(String query,
+        int totalArticles,
+        Map<Engines, Integer> articlesByEngine,
+        List<Article> articles,
+        int duplicatedResultsRemoved,
+        Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> filterImpactByEngine,
+        Map<Engines, EngineStatusDto> statusByEngine) {
+
+        this(query, totalArticles, articlesByEngine, articles, duplicatedResultsRemoved, 0, filterImpactByEngine, statusByEngine);
+    }
+
+    public SearchResponseDto(String query,
+        int totalArticles,
+        Map<Engines, Integer> articlesByEngine,
+        List<Article> articles,
+        int duplicatedResultsRemoved,
+        int nearDuplicatedResultsRemoved,
+        Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> filterImpactByEngine,
+        Map<Engines, EngineStatusDto> statusByEngine) {
+
         this.query = query;
         this.totalArticles = totalArticles;
         this.articlesByEngine = articlesByEngine;
         this.duplicatedResultsRemoved = duplicatedResultsRemoved;
+        this.nearDuplicatedResultsRemoved = nearDuplicatedResultsRemoved;
         this.articles = articles;
         this.filterImpactByEngine = filterImpactByEngine;
+        this.statusByEngine = statusByEngine;
     }
 
     public String getQuery() { return query; }
@@ -55,8 +84,16 @@ public class SearchResponseDto {
 
     public void setDuplicatedResultsRemoved(int duplicatedResultsRemoved) { this.duplicatedResultsRemoved = duplicatedResultsRemoved; }
 
+    public int getNearDuplicatedResultsRemoved() { return nearDuplicatedResultsRemoved; }
+
+    public void setNearDuplicatedResultsRemoved(int nearDuplicatedResultsRemoved) { this.nearDuplicatedResultsRemoved = nearDuplicatedResultsRemoved; }
+
     public Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> getFilterImpactByEngine() { return filterImpactByEngine; }
 
     public void setFilterImpactByEngine(Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> filterImpactByEngine) { this.filterImpactByEngine = filterImpactByEngine; }
 
+    public Map<Engines, EngineStatusDto> getStatusByEngine() { return statusByEngine; }
+
+    public void setStatusByEngine(Map<Engines, EngineStatusDto> statusByEngine) { this.statusByEngine = statusByEngine; }
+
 }
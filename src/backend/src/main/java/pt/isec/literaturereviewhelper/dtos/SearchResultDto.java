@@ -9,10 +9,17 @@ import java.util.Map;
 public class SearchResultDto {
     private final List<Article> articles;
     private final Map<String, Map<IResultFilter.Statistic, Integer>> statistics;
+    private final EngineStatusDto status;
 
     public SearchResultDto(List<Article> articles, Map<String, Map<IResultFilter.Statistic, Integer>> statistics) {
+        this(articles, statistics, null);
+    }
+
+    public SearchResultDto(List<Article> articles, Map<String, Map<IResultFilter.Statistic, Integer>> statistics,
+                           EngineStatusDto status) {
         this.articles = articles;
         this.statistics = statistics;
+        this.status = status;
     }
 
     public List<Article> getArticles() {
@@ -22,4 +29,11 @@ public class SearchResultDto {
     public Map<String, Map<IResultFilter.Statistic, Integer>> getStatistics() {
         return statistics;
     }
+
+    /**
+     * Returns the outcome of the engine's page requests, or null when the engine did not report one.
+     */
+    public EngineStatusDto getStatus() {
+        return status;
+    }
 }
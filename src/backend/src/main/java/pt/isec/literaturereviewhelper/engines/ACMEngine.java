@@ -4,23 +4,29 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
 import pt.isec.literaturereviewhelper.models.ACMResponse;
+import pt.isec.literaturereviewhelper.models.Engines;
 
 import static pt.isec.literaturereviewhelper.commons.Params.*;
 
-@Component
 public class ACMEngine extends EngineBase<ACMResponse> {
     private static final String BASE_URL = "https://api.crossref.org";
     private static final String ENDPOINT = "/works";
+    /** Only the fields ACMMapper reads; Crossref otherwise returns references, licenses, funders, etc. */
+    static final String SELECT = String.join(",",
+            "title", "published-print", "published-online", "author", "container-title", "type", "link", "DOI");
 
     public ACMEngine(WebClient webClient, IResultMapper<ACMResponse> mapper) {
         super(webClient, mapper);
     }
 
+    public ACMEngine(WebClient webClient, IResultMapper<ACMResponse> mapper, EngineContext context) {
+        super(webClient, mapper, context);
+    }
+
     @Override
     protected String getBaseUrl() {
         return BASE_URL;
@@ -41,6 +47,11 @@ public class ACMEngine extends EngineBase<ACMResponse> {
         return "ACM";
     }
 
+    @Override
+    protected Engines getEngineType() {
+        return Engines.ACM;
+    }
+
     @Override
     protected List<String> getRequiredParameters() {
         return List.of(QUERY, START, ROWS);
@@ -54,6 +65,7 @@ public class ACMEngine extends EngineBase<ACMResponse> {
         p.put("offset", parseInteger(raw.get(START), START) * parseInteger(raw.get(ROWS), ROWS));
         p.put("rows",   parseInteger(raw.get(ROWS), ROWS));
         p.put("filter", raw.getOrDefault("filter", "prefix:10.1145"));
+        p.put("select", SELECT);
 
         return p;
     }
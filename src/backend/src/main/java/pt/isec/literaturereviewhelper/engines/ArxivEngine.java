@@ -1,5 +1,6 @@
 package pt.isec.literaturereviewhelper.engines;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
 import pt.isec.literaturereviewhelper.models.ArxivResponse;
+import pt.isec.literaturereviewhelper.models.Engines;
 import static pt.isec.literaturereviewhelper.commons.Params.*;
 
 public class ArxivEngine extends EngineBase<ArxivResponse> {
@@ -19,11 +21,25 @@ private static final String BASE_URL = "https://export.arxiv.org";
         super(webClient, mapper);
     }
 
+    public ArxivEngine(WebClient webClient, IResultMapper<ArxivResponse> mapper, EngineContext context) {
+        super(webClient, mapper, context);
+    }
+
     @Override
     protected MediaType getMediaType() {
         return MediaType.APPLICATION_ATOM_XML;
     }
 
+    @Override
+    protected int getMaxConcurrency() {
+        return 1; // arXiv's API terms ask for a single connection at a time
+    }
+
+    @Override
+    protected Duration getCacheTtl() {
+        return Duration.ofHours(12); // new submissions are announced daily
+    }
+
     @Override
     protected String getBaseUrl() {
         return BASE_URL;
@@ -44,6 +60,11 @@ private static final String BASE_URL = "https://export.arxiv.org";
         return "Arxiv";
     }
 
+    @Override
+    protected Engines getEngineType() {
+        return Engines.ARXIV;
+    }
+
     @Override
     protected List<String> getRequiredParameters() {
         return List.of(QUERY, START, ROWS);
@@ -3,27 +3,43 @@ package pt.isec.literaturereviewhelper.engines;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.TreeMap;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-
+import pt.isec.literaturereviewhelper.caches.PageKey;
+import pt.isec.literaturereviewhelper.dtos.EngineStatusDto;
 import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
 import pt.isec.literaturereviewhelper.filters.ResultFilterChain;
+import pt.isec.literaturereviewhelper.interfaces.IPageCache;
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import pt.isec.literaturereviewhelper.interfaces.IStreamingResultMapper;
 import pt.isec.literaturereviewhelper.interfaces.ISearchEngine;
 import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+import pt.isec.literaturereviewhelper.resilience.CircuitBreakerRegistry;
+import pt.isec.literaturereviewhelper.resilience.RateLimiterRegistry;
+import pt.isec.literaturereviewhelper.transport.UpstreamTransferMetrics;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 /**
  * Abstract base class for search engine implementations.
@@ -32,17 +48,31 @@ import reactor.core.publisher.Mono;
 public abstract class EngineBase<R> implements ISearchEngine {
     protected final Logger log = LoggerFactory.getLogger(getClass());
     protected final WebClient webClient;
-    protected final Cache<String, List<Article>> upstreamCache = Caffeine.newBuilder()
-            .maximumSize(10L)
-            .expireAfterWrite(24L, TimeUnit.HOURS)
-            .build();
+    protected final IPageCache upstreamCache;
+    private final RateLimiterRegistry rateLimiters;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final UpstreamTransferMetrics transferMetrics;
     private final IResultMapper<R> mapper;
 
     protected EngineBase(WebClient webClient, IResultMapper<R> mapper) {
+        this(webClient, mapper, EngineContext.standalone());
+    }
+
+    protected EngineBase(WebClient webClient, IResultMapper<R> mapper, EngineContext context) {
         this.webClient = webClient;
         this.mapper = mapper;
+        this.upstreamCache = context.getPageCache();
+        this.rateLimiters = context.getRateLimiters();
+        this.circuitBreakers = context.getCircuitBreakers();
+        this.transferMetrics = context.getTransferMetrics();
     }
 
+    /**
+     * Returns the engine type, used to key shared per-engine state such as cached pages.
+     * @return the Engines value this engine searches
+     */
+    protected abstract Engines getEngineType();
+
     /**
      * Returns the base URL for the search engine API.
      * @return the base URL string
@@ -137,14 +167,148 @@ public abstract class EngineBase<R> implements ISearchEngine {
         return new HashMap<>(raw);
     }
 
+    /**
+     * Returns how long a fetched page may be served from the upstream cache.
+     * @return the cache TTL (defaults to 24 hours)
+     */
+    protected Duration getCacheTtl() {
+        return Duration.ofHours(24);
+    }
+
+    /**
+     * Returns how many pages of a deep search may be in flight at the same time.
+     * Engines whose provider enforces stricter usage policies should override this.
+     * @return the maximum number of concurrent page requests (defaults to 4)
+     */
+    protected int getMaxConcurrency() {
+        return 4;
+    }
+
+    /**
+     * Returns how long a single upstream page request may take before it is abandoned.
+     * @return the per-page timeout (defaults to 20 seconds)
+     */
+    protected Duration getPageTimeout() {
+        return Duration.ofSeconds(20);
+    }
+
+    /**
+     * Returns how many bytes of (decompressed) body a single page may stream through its mapper. Buffers are only
+     * read a few ahead of the parser, so what a page pins on the heap grows with the articles mapped from it; capping
+     * the body caps that. A page over budget fails with a {@link DataBufferLimitException} and is not retried.
+     * @return the per-page body budget in bytes (defaults to 4 MB)
+     */
+    protected long getMaxPageBytes() {
+        return 4L * 1024 * 1024;
+    }
+
+    /**
+     * Returns how many times a page request is retried after a transient failure.
+     * @return the maximum number of retries per page (defaults to 2)
+     */
+    protected int getMaxRetries() {
+        return 2;
+    }
+
+    /**
+     * Returns the backoff before the first retry of a page; later retries back off exponentially,
+     * with random jitter so concurrent pages do not retry in lockstep.
+     * @return the initial retry backoff (defaults to 500 milliseconds)
+     */
+    protected Duration getRetryBackoff() {
+        return Duration.ofMillis(500);
+    }
+
+    /**
+     * Tells whether a failed page request is worth retrying: timeouts, connection errors,
+     * 5xx answers and 429 (too many requests) on idempotent requests. Other errors would only fail again.
+     * The same errors are the ones counted by the engine's circuit breaker.
+     * @param error the failure of the page request
+     * @return true if the request should be retried
+     */
+    protected boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return isIdempotent(response.getRequest() == null ? null : response.getRequest().getMethod())
+                    && (response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+        if (error instanceof WebClientRequestException request) {
+            return isIdempotent(request.getMethod());
+        }
+        return error instanceof TimeoutException;
+    }
+
+    /**
+     * Engines only issue GET requests, so an unknown method is treated as one.
+     */
+    private static boolean isIdempotent(HttpMethod method) {
+        return method == null || HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
     /**
      * Default implementation of search that handles common HTTP logic, request caching and result filtering.
+     * Pages are fetched concurrently (up to {@link #getMaxConcurrency()}) and merged back in page order.
+     * Each page is fetched independently: a page that still fails after its retries is reported in the
+     * result's {@link EngineStatusDto} and the other pages are kept.
      * Subclasses can override if they need custom behavior.
      */
     @Override
-    public Mono<SearchResultDto> search(Map<String, String> params) {
-        validateParameters(params);
+    public Mono<SearchResultDto> search(Map<String, String> requestParams) {
+        validateParameters(requestParams);
+        int pages = getDeepSearchLimit(requestParams);
+        // Pages read the parameters when they subscribe; later changes to the caller's map must not reach them
+        Map<String, String> params = new HashMap<>(requestParams);
+
+        return Mono.defer(() -> {
+            PageTally tally = new PageTally(pages);
+            return Flux.range(0, pages)
+                    .flatMapSequential(start -> fetchPageReporting(params, start, tally), getMaxConcurrency())
+                    .flatMapIterable(pageArticles -> pageArticles)
+                    .collectList()
+                    .map(accumulatedArticles -> {
+                        ResultFilterChain filterChain = new ResultFilterChain.Builder().fromParams(params).build();
+                        List<Article> filteredArticles = filterChain.filter(accumulatedArticles);
+                        return new SearchResultDto(filteredArticles, filterChain.getAllExecutionStatistics(),
+                                tally.snapshot());
+                    });
+        });
+    }
 
+    /**
+     * Default implementation of the incremental search. Pages are emitted in the order they arrive,
+     * each one already run through the engine's filter chain; a failing page is emitted empty and
+     * recorded in the status carried by every subsequent page.
+     */
+    @Override
+    public Flux<SearchResultDto> searchIncrementally(Map<String, String> requestParams) {
+        validateParameters(requestParams);
+        int pages = getDeepSearchLimit(requestParams);
+        Map<String, String> params = new HashMap<>(requestParams);
+
+        return Flux.defer(() -> {
+            ResultFilterChain filterChain = new ResultFilterChain.Builder().fromParams(params).build();
+            PageTally tally = new PageTally(pages);
+            return Flux.range(0, pages)
+                    .flatMap(start -> fetchPageReporting(params, start, tally), getMaxConcurrency())
+                    .map(pageArticles -> new SearchResultDto(filterChain.filter(pageArticles),
+                            Map.copyOf(filterChain.getAllExecutionStatistics()), tally.snapshot()));
+        });
+    }
+
+    /**
+     * Fetches a page, recording its outcome. A failed page is logged and yields no articles.
+     */
+    private Mono<List<Article>> fetchPageReporting(Map<String, String> params, int start, PageTally tally) {
+        return fetchPage(params, start)
+                .doOnNext(pageArticles -> tally.succeeded())
+                .onErrorResume(e -> {
+                    log.error("Page {} failed, continuing with the remaining pages: {}", start, e.getMessage());
+                    tally.failed(start, e);
+                    return Mono.just(List.of());
+                });
+    }
+
+    private int getDeepSearchLimit(Map<String, String> params) {
         int startLimit = 10; // Default deep_search_limit
         if (params.containsKey("deep_search_limit"))
         {
@@ -154,46 +318,110 @@ public abstract class EngineBase<R> implements ISearchEngine {
                 log.warn("Invalid Parameter 'deep_search_limit' {}", startLimit);
             }
         }
+        return Math.max(startLimit, 0);
+    }
 
-        List<Article> accumulatedArticles = new ArrayList<>();
+    /**
+     * Fetches a single page of results, serving it from the upstream cache when possible.
+     *
+     * @param params the request parameters
+     * @param start the page index
+     * @return a Mono emitting the mapped articles of the page
+     */
+    private Mono<List<Article>> fetchPage(Map<String, String> params, int start) {
+        return Mono.defer(() -> {
+            Map<String, String> pagedParams = new HashMap<>(params);
+            pagedParams.put("start", String.valueOf(start));
 
-        try {
-            for (int start = 0; start < startLimit; start++) {
-                Map<String, String> pagedParams = new HashMap<>(params);
-                pagedParams.put("start", String.valueOf(start));
-
-                String fullURL = buildURL(mapParams(pagedParams));
-
-                log.info("Fetching {} from cache...", fullURL);
-
-                List<Article> pageArticles = upstreamCache.getIfPresent(fullURL);
-                if (pageArticles == null) {
-                    log.info("Cache miss for {}, fetching from upstream...", fullURL);
-                    pageArticles = webClient.get()
-                        .uri(URI.create(fullURL))
-                        .accept(getMediaType())
-                        .retrieve()
-                        .bodyToMono(getResponseType())
-                        .map(mapper::map)
-                        .block();
-
-                    if (pageArticles == null) {
-                        log.warn("Received null response from upstream for URL: {}", fullURL);
-                    } else {
-                        upstreamCache.put(fullURL, pageArticles);
-                    }
-                }
+            Map<String, Object> mappedParams = mapParams(pagedParams);
+            String fullURL = buildURL(mappedParams);
+
+            log.info("Fetching {} from cache...", fullURL);
+
+            return upstreamCache.getOrLoad(PageKey.of(getEngineType(), mappedParams), getCacheTtl(), () -> {
+                log.info("Cache miss for {}, fetching from upstream...", fullURL);
+                Mono<List<Article>> attempt = rateLimiters.acquire(getEngineType())
+                        .then(Mono.defer(() -> fetchArticles(fullURL).timeout(getPageTimeout())));
+
+                // Each attempt goes through the breaker; once it opens, retries fail fast and stop
+                return circuitBreakers.get(getEngineType()).protect(attempt, this::isRetryable)
+                        .retryWhen(Retry.backoff(getMaxRetries(), getRetryBackoff())
+                                .maxBackoff(getPageTimeout())
+                                .jitter(0.5)
+                                .filter(this::isRetryable)
+                                .doBeforeRetry(retry -> log.warn("Retrying {} after: {}",
+                                        fullURL, retry.failure().getMessage()))
+                                .onRetryExhaustedThrow((spec, retry) -> retry.failure()));
+            }).switchIfEmpty(Mono.fromSupplier(() -> {
+                log.warn("Received null response from upstream for URL: {}", fullURL);
+                return List.of();
+            }));
+        });
+    }
+
+    /**
+     * Issues the upstream request and maps its body. Streaming mappers decode the raw body as it arrives
+     * (already decompressed by the client) within the page budget, with its size recorded against the engine; other
+     * mappers get the response bound to {@link #getResponseType()} first.
+     */
+    private Mono<List<Article>> fetchArticles(String fullURL) {
+        URI uri = URI.create(fullURL);
+        transferMetrics.registerHost(getEngineType(), uri.getHost());
+        WebClient.ResponseSpec response = webClient.get()
+                .uri(uri)
+                .accept(getMediaType())
+                .retrieve();
 
-                if (pageArticles != null && !pageArticles.isEmpty()) {
-                    accumulatedArticles.addAll(pageArticles);
+        if (mapper instanceof IStreamingResultMapper<R> streamingMapper) {
+            Flux<DataBuffer> body = limitToBudget(response.bodyToFlux(DataBuffer.class), getMaxPageBytes())
+                    .doOnNext(buffer -> transferMetrics.recordDecodedBytes(getEngineType(), buffer.readableByteCount()));
+            return streamingMapper.mapStream(body).collectList();
+        }
+        return response.bodyToMono(getResponseType()).map(mapper::map);
+    }
+
+    /**
+     * Fails the body as soon as more than {@code maxBytes} have been received, releasing the buffer that crossed it.
+     */
+    private Flux<DataBuffer> limitToBudget(Flux<DataBuffer> body, long maxBytes) {
+        return Flux.defer(() -> {
+            long[] received = {0};
+            return body.handle((buffer, sink) -> {
+                received[0] += buffer.readableByteCount();
+                if (received[0] > maxBytes) {
+                    DataBufferUtils.release(buffer);
+                    sink.error(new DataBufferLimitException(
+                            getEngineName() + " page exceeds the budget of " + maxBytes + " bytes"));
+                } else {
+                    sink.next(buffer);
                 }
-            }
-        } catch (Exception e) {
-            log.error("Exception occurred, returning accumulated articles: {}", e.getMessage());
+            });
+        });
+    }
+
+    /**
+     * Outcome of the pages of one search. Page signals are serialized by the reactive pipeline,
+     * but snapshots may be taken from another thread, hence the synchronization.
+     */
+    private static final class PageTally {
+        private final int requested;
+        private final Map<Integer, String> failed = new TreeMap<>();
+        private int succeeded;
+
+        PageTally(int requested) {
+            this.requested = requested;
         }
 
-        ResultFilterChain filterChain = new ResultFilterChain.Builder().fromParams(params).build();
-        List<Article> filteredArticles = filterChain.filter(accumulatedArticles);
-        return Mono.just(new SearchResultDto(filteredArticles, filterChain.getAllExecutionStatistics()));
+        synchronized void succeeded() {
+            succeeded++;
+        }
+
+        synchronized void failed(int page, Throwable error) {
+            failed.put(page, String.valueOf(error.getMessage()));
+        }
+
+        synchronized EngineStatusDto snapshot() {
+            return new EngineStatusDto(requested, succeeded, Collections.unmodifiableMap(new TreeMap<>(failed)));
+        }
     }
 }
@@ -0,0 +1,54 @@
+package pt.isec.literaturereviewhelper.engines;
+
+import org.springframework.stereotype.Component;
+
+import pt.isec.literaturereviewhelper.caches.UpstreamPageCache;
+import pt.isec.literaturereviewhelper.interfaces.IPageCache;
+import pt.isec.literaturereviewhelper.resilience.CircuitBreakerRegistry;
+import pt.isec.literaturereviewhelper.resilience.RateLimiterRegistry;
+import pt.isec.literaturereviewhelper.transport.UpstreamTransferMetrics;
+
+/**
+ * Application-scoped collaborators shared by every engine instance.
+ * Engines are created per request, so anything that has to outlive a single search lives here.
+ */
+@Component
+public class EngineContext {
+    private final IPageCache pageCache;
+    private final RateLimiterRegistry rateLimiters;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final UpstreamTransferMetrics transferMetrics;
+
+    public EngineContext(IPageCache pageCache, RateLimiterRegistry rateLimiters,
+                         CircuitBreakerRegistry circuitBreakers, UpstreamTransferMetrics transferMetrics) {
+        this.pageCache = pageCache;
+        this.rateLimiters = rateLimiters;
+        this.circuitBreakers = circuitBreakers;
+        this.transferMetrics = transferMetrics;
+    }
+
+    /**
+     * Creates a context whose collaborators are private to the engine using it.
+     * @return a context for engines built outside the application context
+     */
+    public static EngineContext standalone() {
+        return new EngineContext(new UpstreamPageCache(UpstreamPageCache.DEFAULT_MAX_ARTICLES),
+                RateLimiterRegistry.unlimited(), CircuitBreakerRegistry.withDefaults(), new UpstreamTransferMetrics());
+    }
+
+    public IPageCache getPageCache() {
+        return pageCache;
+    }
+
+    public RateLimiterRegistry getRateLimiters() {
+        return rateLimiters;
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    public UpstreamTransferMetrics getTransferMetrics() {
+        return transferMetrics;
+    }
+}
@@ -1,5 +1,6 @@
 package pt.isec.literaturereviewhelper.engines;
 
+import java.time.Duration;
 import java.util.*;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -7,6 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import pt.isec.literaturereviewhelper.models.Engines;
 
 import static pt.isec.literaturereviewhelper.commons.Params.*;
 
@@ -18,6 +20,10 @@ public class HalEngine extends EngineBase<String> {
         super(webClient, mapper);
     }
 
+    public HalEngine(WebClient webClient, @Qualifier("halResultMapper") IResultMapper<String> mapper, EngineContext context) {
+        super(webClient, mapper, context);
+    }
+
     @Override
     protected String getBaseUrl() {
         return BASE_URL;
@@ -33,6 +39,11 @@ public class HalEngine extends EngineBase<String> {
         return MediaType.TEXT_PLAIN;
     }
 
+    @Override
+    protected Duration getCacheTtl() {
+        return Duration.ofHours(12); // deposits are indexed continuously
+    }
+
     @Override
     protected Class<String> getResponseType() {
         return String.class;
@@ -43,6 +54,11 @@ public class HalEngine extends EngineBase<String> {
         return "HAL";
     }
 
+    @Override
+    protected Engines getEngineType() {
+        return Engines.HAL;
+    }
+
     @Override
     protected List<String> getRequiredParameters() {
         return List.of(QUERY, START, ROWS, WT);
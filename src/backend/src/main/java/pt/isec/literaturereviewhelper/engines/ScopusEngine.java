@@ -8,16 +8,25 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
 import pt.isec.literaturereviewhelper.models.ScopusResponse;
+import pt.isec.literaturereviewhelper.models.Engines;
 import static pt.isec.literaturereviewhelper.commons.Params.*;
 
 public class ScopusEngine extends EngineBase<ScopusResponse>{
     private static final String BASE_URL = "https://api.elsevier.com";
     private static final String ENDPOINT = "/content/search/scopus";
+    /** Only the fields ScopusMapper reads; the standard view otherwise adds identifiers, affiliations, etc. */
+    static final String FIELDS = String.join(",",
+            "dc:title", "prism:coverDate", "prism:publicationName", "subtypeDescription", "prism:aggregationType",
+            "dc:creator", "link", "prism:doi");
 
     public ScopusEngine(WebClient webClient, IResultMapper<ScopusResponse> mapper) {
         super(webClient, mapper);
     }
 
+    public ScopusEngine(WebClient webClient, IResultMapper<ScopusResponse> mapper, EngineContext context) {
+        super(webClient, mapper, context);
+    }
+
     @Override
     protected String getBaseUrl() {
         return BASE_URL;
@@ -38,6 +47,11 @@ public class ScopusEngine extends EngineBase<ScopusResponse>{
         return "Scopus";
     }
 
+    @Override
+    protected Engines getEngineType() {
+        return Engines.SCOPUS;
+    }
+
     @Override
     protected List<String> getRequiredParameters() {
         return List.of(QUERY, START, ROWS, API_KEY);
@@ -51,6 +65,7 @@ public class ScopusEngine extends EngineBase<ScopusResponse>{
         p.put("start", parseInteger(raw.get(START), START) * parseInteger(raw.get(ROWS), ROWS));
         p.put("count", parseInteger(raw.get(ROWS), ROWS));
         p.put("apiKey", raw.get(API_KEY));
+        p.put("field", FIELDS);
 
         return p;
     }
@@ -6,6 +6,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
 import pt.isec.literaturereviewhelper.models.SpringerResponse;
+import pt.isec.literaturereviewhelper.models.Engines;
 
 import static pt.isec.literaturereviewhelper.commons.Params.*;
 
@@ -17,6 +18,10 @@ public class SpringerEngine extends EngineBase<SpringerResponse> {
         super(webClient, mapper);
     }
 
+    public SpringerEngine(WebClient webClient, IResultMapper<SpringerResponse> mapper, EngineContext context) {
+        super(webClient, mapper, context);
+    }
+
     @Override
     protected String getBaseUrl() {
         return BASE_URL;
@@ -37,6 +42,11 @@ public class SpringerEngine extends EngineBase<SpringerResponse> {
         return "Springer";
     }
 
+    @Override
+    protected Engines getEngineType() {
+        return Engines.SPRINGER;
+    }
+
     @Override
     protected List<String> getRequiredParameters() {
         return List.of(QUERY, START, ROWS, API_KEY);
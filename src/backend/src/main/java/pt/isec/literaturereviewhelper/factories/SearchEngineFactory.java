@@ -6,6 +6,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import pt.isec.literaturereviewhelper.engines.ACMEngine;
 import pt.isec.literaturereviewhelper.engines.ArxivEngine;
+import pt.isec.literaturereviewhelper.engines.EngineContext;
 import pt.isec.literaturereviewhelper.engines.HalEngine;
 import pt.isec.literaturereviewhelper.engines.ScopusEngine;
 import pt.isec.literaturereviewhelper.engines.SpringerEngine;
@@ -26,28 +27,31 @@ public class SearchEngineFactory implements ISearchEngineFactory {
     private final IResultMapper<SpringerResponse> springerMapper;
     private final IResultMapper<ScopusResponse> scopusMapper;
     private final IResultMapper<ArxivResponse> arxivMapper;
+    private final EngineContext engineContext;
 
     public SearchEngineFactory(WebClient webClient, 
         IResultMapper<ACMResponse> acmMapper,
         @Qualifier("halResultMapper") IResultMapper<String> halMapper, 
         IResultMapper<SpringerResponse> springer,
         IResultMapper<ScopusResponse> scopus,
-        IResultMapper<ArxivResponse> arxiv) {
+        IResultMapper<ArxivResponse> arxiv,
+        EngineContext engineContext) {
         this.webClient = webClient;
         this.acmMapper = acmMapper;
         this.halMapper = halMapper;
         this.springerMapper = springer;
         this.scopusMapper = scopus;
         this.arxivMapper = arxiv;
+        this.engineContext = engineContext;
     }
 
     public ISearchEngine createSearchEngine(Engines type) {
         return switch (type) {
-            case ACM -> new ACMEngine(webClient, acmMapper);
-            case HAL -> new HalEngine(webClient, halMapper);
-            case SPRINGER -> new SpringerEngine(webClient, springerMapper);
-            case SCOPUS -> new ScopusEngine(webClient, scopusMapper);
-            case ARXIV -> new ArxivEngine(webClient, arxivMapper);
+            case ACM -> new ACMEngine(webClient, acmMapper, engineContext);
+            case HAL -> new HalEngine(webClient, halMapper, engineContext);
+            case SPRINGER -> new SpringerEngine(webClient, springerMapper, engineContext);
+            case SCOPUS -> new ScopusEngine(webClient, scopusMapper, engineContext);
+            case ARXIV -> new ArxivEngine(webClient, arxivMapper, engineContext);
         };
     }
 }
\ No newline at end of file
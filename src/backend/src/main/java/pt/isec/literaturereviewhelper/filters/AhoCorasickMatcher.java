@@ -0,0 +1,130 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeSet;
+
+/**
+ * Case insensitive multi-pattern substring matcher.
+ * <p>
+ * The patterns are compiled once into an Aho–Corasick automaton whose failure links are folded into a full
+ * transition table, so a text is scanned a single time, one table lookup per character, whatever the number of
+ * patterns. Characters are lower-cased one at a time while scanning, and patterns are expected lower-cased already.
+ */
+final class AhoCorasickMatcher {
+    private static final int ROOT = 0;
+    private static final int ASCII = 128;
+
+    /** Column of each ASCII character in the transition table; 0 for characters that appear in no pattern. */
+    private final int[] asciiColumns = new int[ASCII];
+    /** Sorted non-ASCII characters of the patterns; the column of {@code nonAscii[i]} is {@code ASCII + i}. */
+    private final char[] nonAscii;
+    private final int width;
+    private final int[] transitions;
+    private final boolean[] matches;
+
+    /**
+     * Compiles the automaton.
+     * @param patterns Lower-cased, non-empty patterns
+     * @throws IllegalArgumentException if a pattern is empty, as it would match every text
+     */
+    AhoCorasickMatcher(Collection<String> patterns) {
+        if (patterns.stream().anyMatch(String::isEmpty)) {
+            throw new IllegalArgumentException("Patterns must not be empty");
+        }
+        TreeSet<Character> symbols = new TreeSet<>();
+        patterns.forEach(pattern -> pattern.chars().forEach(c -> symbols.add((char) c)));
+
+        List<Character> others = new ArrayList<>();
+        int column = 1;
+        for (char symbol : symbols) {
+            if (symbol < ASCII) {
+                asciiColumns[symbol] = column++;
+            } else {
+                others.add(symbol);
+            }
+        }
+        nonAscii = new char[others.size()];
+        for (int i = 0; i < nonAscii.length; i++) {
+            nonAscii[i] = others.get(i);
+        }
+        int firstNonAscii = column;
+        width = firstNonAscii + nonAscii.length;
+
+        // Trie, with -1 marking missing edges
+        int capacity = 1 + patterns.stream().mapToInt(String::length).sum();
+        int[] trie = new int[capacity * width];
+        Arrays.fill(trie, -1);
+        boolean[] terminal = new boolean[capacity];
+        int states = 1;
+        for (String pattern : patterns) {
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int edge = state * width + column(pattern.charAt(i), firstNonAscii);
+                if (trie[edge] < 0) {
+                    trie[edge] = states++;
+                }
+                state = trie[edge];
+            }
+            terminal[state] = true;
+        }
+
+        // Breadth-first, each missing edge takes the edge of the state's failure link
+        transitions = Arrays.copyOf(trie, states * width);
+        matches = Arrays.copyOf(terminal, states);
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < width; c++) {
+            int next = transitions[c];
+            if (next < 0) {
+                transitions[c] = ROOT;
+            } else {
+                failure[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            matches[state] |= matches[failure[state]];
+            for (int c = 0; c < width; c++) {
+                int edge = state * width + c;
+                int fallback = transitions[failure[state] * width + c];
+                if (transitions[edge] < 0) {
+                    transitions[edge] = fallback;
+                } else {
+                    failure[transitions[edge]] = fallback;
+                    queue.add(transitions[edge]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells whether the text contains any of the patterns, ignoring case.
+     * @param text Text to scan
+     * @return true if at least one pattern occurs in the text
+     */
+    boolean containsAny(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            state = transitions[state * width + column(c, width - nonAscii.length)];
+            if (matches[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int column(char c, int firstNonAscii) {
+        if (c < ASCII) {
+            return asciiColumns[c];
+        }
+        int index = Arrays.binarySearch(nonAscii, c);
+        return index < 0 ? 0 : firstNonAscii + index;
+    }
+}
@@ -12,7 +12,9 @@ import pt.isec.literaturereviewhelper.models.Article;
 public final class AuthorResultFilter extends ResultFilterBase {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final boolean reversed;
-    private final List<String> authors;
+    private final AhoCorasickMatcher authors;
+    /** Matcher of the authors holding symbols, compared with the names as given; null if there are none. */
+    private final AhoCorasickMatcher literalAuthors;
 
     /**
      * Constructs a case insensitive AuthorResultFilter for the given authors.
@@ -34,7 +36,14 @@ public final class AuthorResultFilter extends ResultFilterBase {
      */
     public AuthorResultFilter(List<String> authors, boolean reversed) {
         this.reversed = reversed;
-        this.authors = authors.stream().map(String::toLowerCase).toList();
+        FilterTerms terms = new FilterTerms(authors);
+        this.authors = new AhoCorasickMatcher(terms.normalized());
+        this.literalAuthors = terms.literal().isEmpty() ? null : new AhoCorasickMatcher(terms.literal());
+    }
+
+    @Override
+    boolean isStateless() {
+        return true;
     }
 
     @Override
@@ -44,13 +53,10 @@ public final class AuthorResultFilter extends ResultFilterBase {
             return false;
         }
 
-        if (reversed) {
-            return article.authors().stream()
-                    .noneMatch(a -> authors.stream().anyMatch(author -> a.toLowerCase().contains(author)));
-        } else {
-            return article.authors().stream()
-                    .anyMatch(a -> authors.stream().anyMatch(author -> a.toLowerCase().contains(author)));
-        }
+        boolean matches = article.normalized().authors().stream().anyMatch(authors::containsAny)
+                || (literalAuthors != null && article.authors().stream()
+                        .anyMatch(author -> author != null && literalAuthors.containsAny(author)));
+        return matches != reversed;
     }
 
 }
@@ -0,0 +1,185 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
+import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+/**
+ * A filter that merges the copies of an article returned by several engines into a single article, instead of
+ * keeping the first copy and dropping the others.
+ * <p>
+ * Copies are grouped in a single pass, by DOI first and by normalized title fingerprint otherwise, exactly as
+ * {@link DuplicateResultFilter} matches them; articles without a title are only grouped by DOI, and copies with
+ * different DOIs are never grouped by title, as they are distinct works such as a conference and a journal version
+ * of a paper. Each group becomes one article holding the best non-empty field of its copies, and listing every
+ * engine among its {@link Article#sources() sources}:
+ * <ul>
+ *     <li>the publication year, venue and venue type of a published copy win over those of an arXiv preprint;</li>
+ *     <li>the longest author list wins, as some engines collapse or truncate authors;</li>
+ *     <li>any other field is taken from the first copy that has it.</li>
+ * </ul>
+ * Duplicates are merged within each list given to {@link #filter(List)}; statistics accumulate across calls.
+ */
+public class DuplicateMerger implements IResultFilter {
+    private final boolean verifyCollisions;
+    private boolean executed;
+    private int inputCount;
+    private int outputCount;
+
+    /**
+     * Constructs a DuplicateMerger comparing fingerprints only.
+     *
+     * This is equivalent to calling {@link #DuplicateMerger(boolean)} with verifyCollisions set to false.
+     */
+    public DuplicateMerger() {
+        this(false);
+    }
+
+    /**
+     * Constructs a DuplicateMerger.
+     *
+     * @param verifyCollisions whether DOIs or titles with equal fingerprints are also compared in full
+     */
+    public DuplicateMerger(boolean verifyCollisions) {
+        this.verifyCollisions = verifyCollisions;
+    }
+
+    @Override
+    public List<Article> filter(List<Article> articles) {
+        FingerprintMap groupsByDoi = new FingerprintMap(verifyCollisions);
+        FingerprintMap groupsByTitle = new FingerprintMap(verifyCollisions);
+        groupsByDoi.ensureCapacity(articles.size());
+        groupsByTitle.ensureCapacity(articles.size());
+        List<Article> kept = new ArrayList<>(articles.size());
+        // Only groups with more than one copy get an entry, by index of their first copy
+        Group[] groups = new Group[articles.size()];
+
+        for (Article article : articles) {
+            String doi = article.doi();
+            long doiFingerprint = doi.isEmpty() ? 0 : TextNormalizer.fingerprint(doi);
+            Article.Normalized normalized = article.normalized();
+            boolean titled = !normalized.title().isEmpty();
+
+            int group = doi.isEmpty() ? FingerprintMap.ABSENT : groupsByDoi.get(doiFingerprint, doi);
+            if (group == FingerprintMap.ABSENT && titled) {
+                group = groupsByTitle.get(normalized.titleFingerprint(), normalized.title());
+                if (group != FingerprintMap.ABSENT && !doi.isEmpty()) {
+                    String groupDoi = groups[group] == null ? kept.get(group).doi() : groups[group].doi;
+                    if (!groupDoi.isEmpty() && !groupDoi.equals(doi)) {
+                        group = FingerprintMap.ABSENT;
+                    }
+                }
+            }
+            if (group == FingerprintMap.ABSENT) {
+                group = kept.size();
+                kept.add(article);
+            } else {
+                if (groups[group] == null) {
+                    groups[group] = new Group(kept.get(group));
+                }
+                groups[group].merge(article);
+            }
+
+            if (!doi.isEmpty()) {
+                groupsByDoi.putIfAbsent(doiFingerprint, doi, group);
+            }
+            if (titled) {
+                groupsByTitle.putIfAbsent(normalized.titleFingerprint(), normalized.title(), group);
+            }
+        }
+
+        List<Article> merged = new ArrayList<>(kept.size());
+        for (int i = 0; i < kept.size(); i++) {
+            merged.add(groups[i] == null ? kept.get(i) : groups[i].toArticle());
+        }
+
+        executed = true;
+        inputCount += articles.size();
+        outputCount += merged.size();
+        return Collections.unmodifiableList(merged);
+    }
+
+    @Override
+    public Map<Statistic, Integer> getExecutionStatistics() {
+        if (!executed) {
+            throw new IllegalStateException("Filter has not been executed yet.");
+        }
+
+        return Map.of(
+                Statistic.INPUT, inputCount,
+                Statistic.OUTPUT, outputCount,
+                Statistic.DROPPED, inputCount - outputCount
+        );
+    }
+
+    /**
+     * The copies of an article that has duplicates. Title, venue and authors are tracked by the copy they come from,
+     * so the merged article reuses that copy's normalized view instead of normalizing again.
+     */
+    private static final class Group {
+        private final Article first;
+        private final EnumSet<Engines> sources;
+        private Article titleFrom;
+        private Article venueFrom;
+        private Article authorsFrom;
+        private String publicationYear;
+        private String venueType;
+        private String link;
+        private String doi;
+
+        Group(Article first) {
+            this.first = first;
+            this.sources = EnumSet.copyOf(first.sources());
+            this.titleFrom = first;
+            this.venueFrom = first;
+            this.authorsFrom = first;
+            this.publicationYear = first.publicationYear();
+            this.venueType = first.venueType();
+            this.link = first.link();
+            this.doi = first.doi();
+        }
+
+        void merge(Article copy) {
+            sources.addAll(copy.sources());
+
+            if (!isBlank(copy.venue())
+                    && (isBlank(venueFrom.venue()) || (isPreprint(venueFrom) && !isPreprint(copy)))) {
+                venueFrom = copy;
+                venueType = isBlank(copy.venueType()) ? venueType : copy.venueType();
+                publicationYear = isBlank(copy.publicationYear()) ? publicationYear : copy.publicationYear();
+            }
+            publicationYear = isBlank(publicationYear) ? copy.publicationYear() : publicationYear;
+            venueType = isBlank(venueType) ? copy.venueType() : venueType;
+            titleFrom = isBlank(titleFrom.title()) ? copy : titleFrom;
+            link = isBlank(link) ? copy.link() : link;
+            doi = isBlank(doi) ? copy.doi() : doi;
+            if (copy.authors() != null
+                    && (authorsFrom.authors() == null || copy.authors().size() > authorsFrom.authors().size())) {
+                authorsFrom = copy;
+            }
+        }
+
+        Article toArticle() {
+            Article.Normalized normalized = new Article.Normalized(titleFrom.normalized().title(),
+                    venueFrom.normalized().venue(), authorsFrom.normalized().authors(),
+                    titleFrom.normalized().titleFingerprint());
+            return new Article(titleFrom.title(), publicationYear, venueFrom.venue(), venueType,
+                    authorsFrom.authors(), link, first.source(), doi, sources, normalized);
+        }
+
+        private static boolean isPreprint(Article article) {
+            return article.source() == Engines.ARXIV;
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
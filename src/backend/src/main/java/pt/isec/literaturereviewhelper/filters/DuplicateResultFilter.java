@@ -1,27 +1,197 @@
 package pt.isec.literaturereviewhelper.filters;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
 import pt.isec.literaturereviewhelper.models.Article;
-import java.util.HashSet;
-import java.util.Set;
 
+/**
+ * A filter that drops articles whose DOI or normalized title has already been seen.
+ * <p>
+ * The DOI is looked up first, so the same paper is recognized across engines even when they format its title
+ * differently; articles without a DOI, or with one not seen yet, fall back to the title. Both keys of every article
+ * are remembered, so an article matching by DOI also makes its title known, and the other way around. A title also
+ * remembers the first DOI seen with it, and an article whose DOI differs from that one is a distinct work, such as
+ * the journal version of a conference paper, rather than a duplicate.
+ * <p>
+ * Keys are compared by their 64-bit fingerprint; optionally, keys sharing a fingerprint are also compared in full,
+ * so that a hash collision never drops a distinct article.
+ * <p>
+ * The seen keys can be split into partitions by fingerprint. An article is a duplicate exactly when one of its keys
+ * occurred in an earlier article, whichever partition holds it, so {@link #acceptInParallel(List)} scans the
+ * articles in order once per partition, each on its own thread and over its own keys only, and drops the same
+ * articles as a sequential scan.
+ */
 public class DuplicateResultFilter extends ResultFilterBase {
+    /**
+     * Position of the fingerprint bits picking its partition. {@link FingerprintSet} mixes every bit into its slot
+     * index, so the keys of a partition, which share these bits, still spread evenly over its slots.
+     */
+    private static final int PARTITION_SHIFT = 40;
+
+    private final FingerprintSet[] seenDois;
+    private final SeenTitles[] seenTitles;
+
+    /**
+     * Constructs a DuplicateResultFilter comparing title fingerprints only.
+     *
+     * This is equivalent to calling {@link #DuplicateResultFilter(boolean)} with verifyCollisions set to false.
+     */
+    public DuplicateResultFilter() {
+        this(false);
+    }
+
+    /**
+     * Constructs a DuplicateResultFilter keeping its keys in a single partition.
+     *
+     * This is equivalent to calling {@link #DuplicateResultFilter(boolean, int)} with a single partition.
+     *
+     * @param verifyCollisions whether DOIs or titles with equal fingerprints are also compared in full, at the cost
+     *                         of keeping every seen DOI and title
+     */
+    public DuplicateResultFilter(boolean verifyCollisions) {
+        this(verifyCollisions, 1);
+    }
+
+    /**
+     * Constructs a DuplicateResultFilter.
+     *
+     * @param verifyCollisions whether DOIs or titles with equal fingerprints are also compared in full, at the cost
+     *                         of keeping every seen DOI and title
+     * @param partitions the number of partitions of the seen keys, a power of two; also the number of threads
+     *                   deduplicating a large result set
+     * @throws IllegalArgumentException if partitions is not a positive power of two
+     */
+    public DuplicateResultFilter(boolean verifyCollisions, int partitions) {
+        if (partitions <= 0 || Integer.bitCount(partitions) != 1) {
+            throw new IllegalArgumentException("Partitions must be a positive power of two");
+        }
+        this.seenDois = new FingerprintSet[partitions];
+        this.seenTitles = new SeenTitles[partitions];
+        for (int p = 0; p < partitions; p++) {
+            seenDois[p] = new FingerprintSet(verifyCollisions);
+            seenTitles[p] = new SeenTitles(verifyCollisions);
+        }
+    }
+
+    /**
+     * Returns the smallest power of two at least the given parallelism, as a number of partitions.
+     * @param parallelism the number of threads expected to deduplicate at once
+     * @return the number of partitions
+     */
+    public static int partitionsFor(int parallelism) {
+        int partitions = 1;
+        while (partitions < parallelism && partitions < (1 << 16)) {
+            partitions <<= 1;
+        }
+        return partitions;
+    }
 
-    private final Set<String> seenTitles = new HashSet<>();
+    @Override
+    void expect(int incoming) {
+        int perPartition = incoming / seenTitles.length;
+        for (int p = 0; p < seenTitles.length; p++) {
+            seenDois[p].ensureCapacity(seenDois[p].size() + perPartition);
+            seenTitles[p].ensureCapacity(seenTitles[p].size() + perPartition);
+        }
+    }
 
     @Override
     boolean filter(Article article) {
-        String processedTitle = getProcessedTitle(article.title());
-        if (seenTitles.contains(processedTitle)) {
-            return false;
+        String doi = article.doi();
+        boolean newDoi = true;
+        if (!doi.isEmpty()) {
+            long fingerprint = TextNormalizer.fingerprint(doi);
+            newDoi = seenDois[partition(fingerprint)].add(fingerprint, doi);
         }
-        seenTitles.add(processedTitle);
-        return true;
+        Article.Normalized normalized = article.normalized();
+        long titleFingerprint = normalized.titleFingerprint();
+        boolean newTitle = seenTitles[partition(titleFingerprint)].add(titleFingerprint, normalized.title(), doi);
+        return newDoi && newTitle;
     }
 
-    private String getProcessedTitle(String title) {
-        if (title == null) {
-            return "";
+    @Override
+    List<Article> acceptInParallel(List<Article> articles) {
+        int size = articles.size();
+        long[] doiFingerprints = new long[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            String doi = articles.get(i).doi();
+            if (!doi.isEmpty()) {
+                doiFingerprints[i] = TextNormalizer.fingerprint(doi);
+            }
+        });
+
+        // Partitions only ever set flags to true, so concurrent writes to the same flag agree
+        boolean[] duplicates = new boolean[size];
+        IntStream.range(0, seenTitles.length).parallel().forEach(p -> {
+            FingerprintSet dois = seenDois[p];
+            SeenTitles titles = seenTitles[p];
+            for (int i = 0; i < size; i++) {
+                Article article = articles.get(i);
+                String doi = article.doi();
+                if (!doi.isEmpty() && partition(doiFingerprints[i]) == p && !dois.add(doiFingerprints[i], doi)) {
+                    duplicates[i] = true;
+                }
+                Article.Normalized normalized = article.normalized();
+                long titleFingerprint = normalized.titleFingerprint();
+                if (partition(titleFingerprint) == p && !titles.add(titleFingerprint, normalized.title(), doi)) {
+                    duplicates[i] = true;
+                }
+            }
+        });
+
+        List<Article> accepted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (!duplicates[i]) {
+                accepted.add(articles.get(i));
+            }
+        }
+        count(size, accepted.size());
+        return Collections.unmodifiableList(accepted);
+    }
+
+    private int partition(long fingerprint) {
+        return (int) (fingerprint >>> PARTITION_SHIFT) & (seenTitles.length - 1);
+    }
+
+    /**
+     * The titles seen in a partition, each with the first DOI seen with it, or an empty DOI while none was.
+     */
+    private static final class SeenTitles {
+        private final FingerprintMap titles;
+        private final List<String> dois = new ArrayList<>();
+
+        SeenTitles(boolean verify) {
+            this.titles = new FingerprintMap(verify);
+        }
+
+        /**
+         * Adds a title seen with the given DOI.
+         * @return true if the title was not seen yet, or was seen with another non-empty DOI than the given one
+         */
+        boolean add(long fingerprint, String title, String doi) {
+            int index = titles.putIfAbsent(fingerprint, title, dois.size());
+            if (index == FingerprintMap.ABSENT) {
+                dois.add(doi);
+                return true;
+            }
+            String seenDoi = dois.get(index);
+            if (seenDoi.isEmpty()) {
+                dois.set(index, doi);
+                return false;
+            }
+            return !doi.isEmpty() && !doi.equals(seenDoi);
+        }
+
+        int size() {
+            return titles.size();
+        }
+
+        void ensureCapacity(int expectedSize) {
+            titles.ensureCapacity(expectedSize);
         }
-        return title.toLowerCase().replaceAll("[!@#$%^&*()_+\\-=\\[\\]{};:'\",.<>?/~`|\\\\]+", "");
     }
 }
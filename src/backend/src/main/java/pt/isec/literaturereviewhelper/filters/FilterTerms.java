@@ -0,0 +1,50 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
+
+/**
+ * The terms a filter matches articles against, split by how they are compared.
+ * <p>
+ * Most terms are compared with the normalized text of an article. A term holding symbols that normalizing would
+ * strip, such as "C++" or "C#", is compared with the text as given instead, ignoring case only, so that it does not
+ * match every "c". A term that normalizes to nothing, such as "-", is dropped, as it would match every article.
+ */
+final class FilterTerms {
+    private final List<String> normalized = new ArrayList<>();
+    private final List<String> literal = new ArrayList<>();
+
+    /**
+     * @param terms the terms as given by the client
+     */
+    FilterTerms(List<String> terms) {
+        for (String term : terms) {
+            String normalizedTerm = TextNormalizer.normalize(term);
+            if (normalizedTerm.isEmpty()) {
+                continue;
+            }
+            if (TextNormalizer.hasSymbols(term)) {
+                literal.add(term.strip().toLowerCase(Locale.ROOT));
+            } else {
+                normalized.add(normalizedTerm);
+            }
+        }
+    }
+
+    /**
+     * @return the terms compared with normalized text, normalized
+     */
+    List<String> normalized() {
+        return normalized;
+    }
+
+    /**
+     * @return the terms compared with the text as given, lower-cased and stripped
+     */
+    List<String> literal() {
+        return literal;
+    }
+}
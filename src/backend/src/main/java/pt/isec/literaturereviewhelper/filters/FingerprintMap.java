@@ -0,0 +1,139 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import java.util.Objects;
+
+/**
+ * Open-addressing map from 64-bit fingerprints to non-negative ints, stored in primitive arrays with linear probing.
+ * <p>
+ * The counterpart of {@link FingerprintSet} for when something must be found again by fingerprint, such as the
+ * group an article belongs to. When verifying, the text behind each fingerprint is kept alongside it, and a lookup
+ * only matches if its text is equal too.
+ */
+final class FingerprintMap {
+    static final int ABSENT = -1;
+    private static final int MIN_CAPACITY = 16;
+    /** Fingerprint standing for an empty slot; a real fingerprint of 0 is stored as {@link #ZERO_SUBSTITUTE}. */
+    private static final long EMPTY = 0L;
+    private static final long ZERO_SUBSTITUTE = 0x9e3779b97f4a7c15L;
+
+    private final boolean verify;
+    private long[] fingerprints;
+    private int[] values;
+    private String[] texts;
+    private int size;
+
+    /**
+     * @param verify whether to keep texts and compare them when fingerprints are equal
+     */
+    FingerprintMap(boolean verify) {
+        this.verify = verify;
+        this.fingerprints = new long[MIN_CAPACITY];
+        this.values = new int[MIN_CAPACITY];
+        this.texts = verify ? new String[MIN_CAPACITY] : null;
+    }
+
+    /**
+     * Looks a fingerprint up.
+     * @param fingerprint Fingerprint of the text
+     * @param text Text behind the fingerprint, only read when verifying
+     * @return the value mapped to the fingerprint, or {@link #ABSENT}
+     */
+    int get(long fingerprint, String text) {
+        long key = fingerprint == EMPTY ? ZERO_SUBSTITUTE : fingerprint;
+        int mask = fingerprints.length - 1;
+        for (int slot = index(key, mask); ; slot = (slot + 1) & mask) {
+            long current = fingerprints[slot];
+            if (current == EMPTY) {
+                return ABSENT;
+            }
+            if (current == key && (!verify || Objects.equals(texts[slot], text))) {
+                return values[slot];
+            }
+        }
+    }
+
+    /**
+     * Maps a fingerprint to a value, unless it is mapped already.
+     * @param fingerprint Fingerprint of the text
+     * @param text Text behind the fingerprint, only read when verifying
+     * @param value Non-negative value to map the fingerprint to
+     * @return the value the fingerprint was already mapped to, or {@link #ABSENT} if it has just been added
+     */
+    int putIfAbsent(long fingerprint, String text, int value) {
+        long key = fingerprint == EMPTY ? ZERO_SUBSTITUTE : fingerprint;
+        int mask = fingerprints.length - 1;
+        for (int slot = index(key, mask); ; slot = (slot + 1) & mask) {
+            long current = fingerprints[slot];
+            if (current == EMPTY) {
+                fingerprints[slot] = key;
+                values[slot] = value;
+                if (verify) {
+                    texts[slot] = text;
+                }
+                if (++size > fingerprints.length / 2) {
+                    rehash(fingerprints.length * 2);
+                }
+                return ABSENT;
+            }
+            if (current == key && (!verify || Objects.equals(texts[slot], text))) {
+                return values[slot];
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Grows the table at once to hold the given number of fingerprints, instead of doubling repeatedly.
+     * @param expectedSize Number of fingerprints the map is expected to hold
+     */
+    void ensureCapacity(int expectedSize) {
+        int capacity = fingerprints.length;
+        while (capacity / 2 < expectedSize && capacity < (1 << 30)) {
+            capacity *= 2;
+        }
+        if (capacity > fingerprints.length) {
+            rehash(capacity);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldFingerprints = fingerprints;
+        int[] oldValues = values;
+        String[] oldTexts = texts;
+        fingerprints = new long[capacity];
+        values = new int[capacity];
+        texts = verify ? new String[capacity] : null;
+        int mask = fingerprints.length - 1;
+        for (int i = 0; i < oldFingerprints.length; i++) {
+            long key = oldFingerprints[i];
+            if (key == EMPTY) {
+                continue;
+            }
+            int slot = index(key, mask);
+            while (fingerprints[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            fingerprints[slot] = key;
+            values[slot] = oldValues[i];
+            if (verify) {
+                texts[slot] = oldTexts[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the fingerprint's bits (the finalizer of MurmurHash3) so that the low bits pick the slot.
+     */
+    private static int index(long key, int mask) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,115 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import java.util.Objects;
+
+/**
+ * Open-addressing set of 64-bit fingerprints, stored in a primitive array with linear probing.
+ * <p>
+ * When verifying, the text behind each fingerprint is kept alongside it, and a fingerprint already in the set only
+ * counts as seen if its text is equal too; colliding texts get slots of their own. Otherwise nothing but the
+ * fingerprints is stored, eight bytes per slot.
+ */
+final class FingerprintSet {
+    private static final int MIN_CAPACITY = 16;
+    /** Fingerprint standing for an empty slot; a real fingerprint of 0 is stored as {@link #ZERO_SUBSTITUTE}. */
+    private static final long EMPTY = 0L;
+    private static final long ZERO_SUBSTITUTE = 0x9e3779b97f4a7c15L;
+
+    private final boolean verify;
+    private long[] fingerprints;
+    private String[] texts;
+    private int size;
+
+    /**
+     * @param verify whether to keep texts and compare them when fingerprints are equal
+     */
+    FingerprintSet(boolean verify) {
+        this.verify = verify;
+        this.fingerprints = new long[MIN_CAPACITY];
+        this.texts = verify ? new String[MIN_CAPACITY] : null;
+    }
+
+    /**
+     * Adds a fingerprint to the set.
+     * @param fingerprint Fingerprint of the text
+     * @param text Text behind the fingerprint, only read when verifying
+     * @return true if the fingerprint (and, when verifying, its text) was not in the set yet
+     */
+    boolean add(long fingerprint, String text) {
+        long key = fingerprint == EMPTY ? ZERO_SUBSTITUTE : fingerprint;
+        int mask = fingerprints.length - 1;
+        for (int slot = index(key, mask); ; slot = (slot + 1) & mask) {
+            long current = fingerprints[slot];
+            if (current == EMPTY) {
+                fingerprints[slot] = key;
+                if (verify) {
+                    texts[slot] = text;
+                }
+                if (++size > fingerprints.length / 2) {
+                    grow();
+                }
+                return true;
+            }
+            if (current == key && (!verify || Objects.equals(texts[slot], text))) {
+                return false;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Grows the table at once to hold the given number of fingerprints, instead of doubling repeatedly.
+     * @param expectedSize Number of fingerprints the set is expected to hold
+     */
+    void ensureCapacity(int expectedSize) {
+        int capacity = fingerprints.length;
+        while (capacity / 2 < expectedSize && capacity < (1 << 30)) {
+            capacity *= 2;
+        }
+        if (capacity > fingerprints.length) {
+            rehash(capacity);
+        }
+    }
+
+    private void grow() {
+        rehash(fingerprints.length * 2);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldFingerprints = fingerprints;
+        String[] oldTexts = texts;
+        fingerprints = new long[capacity];
+        texts = verify ? new String[capacity] : null;
+        int mask = fingerprints.length - 1;
+        for (int i = 0; i < oldFingerprints.length; i++) {
+            long key = oldFingerprints[i];
+            if (key == EMPTY) {
+                continue;
+            }
+            int slot = index(key, mask);
+            while (fingerprints[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            fingerprints[slot] = key;
+            if (verify) {
+                texts[slot] = oldTexts[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the fingerprint's bits (the finalizer of MurmurHash3) so that the low bits pick the slot.
+     */
+    private static int index(long key, int mask) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
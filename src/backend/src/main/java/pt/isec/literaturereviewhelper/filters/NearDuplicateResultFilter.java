@@ -0,0 +1,281 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+/**
+ * A filter that drops articles whose title is nearly the same as the title of an article already seen, such as the
+ * same paper listed by several engines with a typo, a subtitle, or LaTeX markup in its title.
+ * <p>
+ * Titles are compared by the Jaccard similarity of their character 3-gram shingles, estimated from 128-value MinHash
+ * signatures. Signatures are split into bands indexed by locality-sensitive hashing, so each title is only compared
+ * against the few titles sharing a band with it instead of every title seen. Bands are sized from the threshold so
+ * that pairs just above it are still found with high probability.
+ * <p>
+ * A title with a subtitle also matches a title without one that is nearly the same as its main title (the part
+ * before the first ':', ' - ' or '. '), as long as that main title has at least three words. Two titles that both
+ * have subtitles must be similar as a whole.
+ * <p>
+ * Two articles with different DOIs are never near-duplicates, however similar their titles, as with the parts of a
+ * series, an erratum, or the conference and journal versions of a paper. Within each list given to
+ * {@link #filter(List)}, the engines of a dropped article are added to the {@link Article#sources() sources} of the
+ * article it duplicates.
+ */
+public class NearDuplicateResultFilter extends ResultFilterBase {
+    public static final double DEFAULT_THRESHOLD = 0.8;
+    static final int SIGNATURE_SIZE = 128;
+    private static final int SHINGLE_SIZE = 3;
+    private static final int MIN_MAIN_TITLE_WORDS = 3;
+    /** How far below the threshold the banding should start finding candidates. */
+    private static final double RECALL_MARGIN = 0.05;
+    private static final Pattern LATEX_COMMAND = Pattern.compile("\\\\[a-zA-Z]+\\*?");
+    private static final Pattern SUBTITLE_SEPARATOR = Pattern.compile(":|\\s[-–—]\\s|\\.\\s");
+
+    private final double threshold;
+    private final int rows;
+    private final LshIndex titles = new LshIndex();
+    private final LshIndex mainTitles = new LshIndex();
+
+    /**
+     * Constructs a NearDuplicateResultFilter with the {@link #DEFAULT_THRESHOLD default threshold}.
+     *
+     * This is equivalent to calling {@link #NearDuplicateResultFilter(double)} with {@link #DEFAULT_THRESHOLD}.
+     */
+    public NearDuplicateResultFilter() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a NearDuplicateResultFilter.
+     *
+     * @param threshold the estimated Jaccard similarity, in (0, 1], from which two titles are near-duplicates
+     * @throws IllegalArgumentException if the threshold is out of range
+     */
+    public NearDuplicateResultFilter(double threshold) {
+        if (!(threshold > 0 && threshold <= 1)) {
+            throw new IllegalArgumentException("Near-duplicate threshold must be greater than 0 and at most 1");
+        }
+        this.threshold = threshold;
+        this.rows = rowsPerBand(threshold);
+    }
+
+    @Override
+    public List<Article> filter(List<Article> articles) {
+        begin(articles.size());
+        List<Article> kept = new ArrayList<>(articles.size());
+        // Engines to add to kept articles of this list, by identity
+        Map<Article, EnumSet<Engines>> addedSources = new IdentityHashMap<>();
+        for (Article article : articles) {
+            Article original = findOriginal(article);
+            if (original == null) {
+                kept.add(article);
+            } else {
+                addedSources.computeIfAbsent(original, key -> EnumSet.copyOf(key.sources()))
+                        .addAll(article.sources());
+            }
+        }
+        count(articles.size(), kept.size());
+
+        List<Article> filtered = new ArrayList<>(kept.size());
+        for (Article article : kept) {
+            EnumSet<Engines> sources = addedSources.get(article);
+            filtered.add(sources == null || sources.equals(article.sources()) ? article : withSources(article, sources));
+        }
+        return Collections.unmodifiableList(filtered);
+    }
+
+    @Override
+    boolean filter(Article article) {
+        return findOriginal(article) == null;
+    }
+
+    /**
+     * Returns the article already seen that the given article nearly duplicates, or remembers the given article and
+     * returns null if there is none.
+     */
+    private Article findOriginal(Article article) {
+        String title = shingleText(article);
+        if (title.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = signature(title);
+        String mainTitle = mainTitle(article.title());
+        int[] mainSignature = mainTitle == null ? null : signature(mainTitle);
+
+        Article original = titles.findSimilar(signature, article.doi());
+        if (original == null) {
+            original = mainSignature != null
+                    ? titles.findSimilar(mainSignature, article.doi())
+                    : mainTitles.findSimilar(signature, article.doi());
+        }
+        if (original != null) {
+            return original;
+        }
+
+        titles.add(signature, article);
+        if (mainSignature != null) {
+            mainTitles.add(mainSignature, article);
+        }
+        return null;
+    }
+
+    private static Article withSources(Article article, Set<Engines> sources) {
+        return new Article(article.title(), article.publicationYear(), article.venue(), article.venueType(),
+                article.authors(), article.link(), article.source(), article.doi(), sources, article.normalized());
+    }
+
+    /**
+     * Picks the most rows per band (hence the fewest candidates) whose banding still finds pairs somewhat below the
+     * threshold: with b bands of r rows, pairs of similarity s become candidates with probability 1 - (1 - s^r)^b,
+     * which rises steeply around (1/b)^(1/r).
+     */
+    static int rowsPerBand(double threshold) {
+        int rows = 1;
+        for (int r = 2; r < SIGNATURE_SIZE; r *= 2) {
+            if (Math.pow(1.0 / (SIGNATURE_SIZE / r), 1.0 / r) <= threshold - RECALL_MARGIN) {
+                rows = r;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the normalized title, with LaTeX commands (as in arXiv titles) removed first.
+     */
+    private static String shingleText(Article article) {
+        String title = article.title();
+        if (title != null && title.indexOf('\\') >= 0) {
+            return TextNormalizer.normalize(LATEX_COMMAND.matcher(title).replaceAll(" "));
+        }
+        return article.normalized().title();
+    }
+
+    /**
+     * Returns the normalized main title of a title with a subtitle, or null if it has none or a too short one.
+     */
+    private static String mainTitle(String title) {
+        if (title == null) {
+            return null;
+        }
+        Matcher separator = SUBTITLE_SEPARATOR.matcher(title);
+        if (!separator.find()) {
+            return null;
+        }
+        String mainTitle = TextNormalizer.normalize(LATEX_COMMAND.matcher(title.substring(0, separator.start()))
+                .replaceAll(" "));
+        return mainTitle.split(" ").length >= MIN_MAIN_TITLE_WORDS ? mainTitle : null;
+    }
+
+    /**
+     * Computes the MinHash signature of a text's shingles. The i-th hash function mixes h1 + i * h2, where h1 and h2
+     * are the halves of one 64-bit hash per shingle, so each shingle is hashed only once.
+     */
+    static int[] signature(String text) {
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, text.length() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long hash = shingleHash(text, start, Math.min(text.length(), start + SHINGLE_SIZE));
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int value = h1 + i * h2;
+                value ^= value >>> 16;
+                value *= 0x85ebca6b;
+                value ^= value >>> 13;
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of two texts as the fraction of their signatures that agree.
+     */
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    private static long shingleHash(String text, int start, int end) {
+        long hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = (hash << 16) | text.charAt(i);
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Signatures of the titles seen and the articles they belong to, with each band of each signature hashed into a
+     * bucket.
+     */
+    private final class LshIndex {
+        private final List<int[]> signatures = new ArrayList<>();
+        private final List<Article> articles = new ArrayList<>();
+        private final Map<Long, List<Integer>> buckets = new HashMap<>();
+
+        /**
+         * Returns an article with a similar signature and no DOI other than the given one, or null if there is none.
+         */
+        Article findSimilar(int[] signature, String doi) {
+            Set<Integer> compared = new HashSet<>();
+            for (int band = 0; band < SIGNATURE_SIZE / rows; band++) {
+                for (int candidate : buckets.getOrDefault(bucket(signature, band), List.of())) {
+                    if (!compared.add(candidate)) {
+                        continue;
+                    }
+                    String candidateDoi = articles.get(candidate).doi();
+                    boolean distinctWorks = !doi.isEmpty() && !candidateDoi.isEmpty() && !doi.equals(candidateDoi);
+                    if (!distinctWorks && similarity(signature, signatures.get(candidate)) >= threshold) {
+                        return articles.get(candidate);
+                    }
+                }
+            }
+            return null;
+        }
+
+        void add(int[] signature, Article article) {
+            int index = signatures.size();
+            signatures.add(signature);
+            articles.add(article);
+            for (int band = 0; band < SIGNATURE_SIZE / rows; band++) {
+                buckets.computeIfAbsent(bucket(signature, band), key -> new ArrayList<>(1)).add(index);
+            }
+        }
+
+        private long bucket(int[] signature, int band) {
+            long hash = band;
+            for (int i = band * rows; i < (band + 1) * rows; i++) {
+                hash = hash * 0x9e3779b97f4a7c15L + signature[i];
+            }
+            return hash;
+        }
+    }
+}
@@ -3,6 +3,11 @@ package pt.isec.literaturereviewhelper.filters;
 import pt.isec.literaturereviewhelper.models.Article;
 
 public final class NoOpResultFilter extends ResultFilterBase {
+    @Override
+    boolean isStateless() {
+        return true;
+    }
+
     @Override
     public boolean filter(Article article) {
         return true;
@@ -1,44 +1,121 @@
 package pt.isec.literaturereviewhelper.filters;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
 import pt.isec.literaturereviewhelper.models.Article;
 
 /**
  * Abstract base class for result filters that provides default handling of list inputs.
+ * Statistics accumulate across calls, so a result set can be fed to the filter incrementally.
+ * A {@link ResultFilterChain} runs these filters article by article through {@link #accept(Article)}, in a single
+ * pass over the result set, and may spread large result sets over several threads through
+ * {@link #acceptInParallel(List)}; statistics are counted with {@link LongAdder}s so they stay exact either way.
  */
 public abstract class ResultFilterBase implements IResultFilter {
-    private int inputCount = Integer.MIN_VALUE;
-    private int outputCount = Integer.MIN_VALUE;
-    private int droppedCount = Integer.MIN_VALUE;
+    private volatile boolean executed;
+    private final LongAdder inputCount = new LongAdder();
+    private final LongAdder outputCount = new LongAdder();
 
     @Override
     public List<Article> filter(List<Article> articles) {
-        List<Article> filtered = articles.stream()
-                .filter(this::filter)
-                .toList();
+        begin(articles.size());
+        List<Article> filtered = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            if (accept(article)) {
+                filtered.add(article);
+            }
+        }
+        return Collections.unmodifiableList(filtered);
+    }
 
-        inputCount = articles.size();
-        outputCount = filtered.size();
-        droppedCount = inputCount - outputCount;
+    abstract boolean filter(Article article);
 
-        return filtered;
+    /**
+     * Tells whether the filter's verdict depends on the article alone, so that articles may be tested in any order
+     * and from several threads at once. Filters that remember the articles they saw return false, the default.
+     * @return true if the filter keeps no state across articles
+     */
+    boolean isStateless() {
+        return false;
     }
 
-    abstract boolean filter(Article article);
+    /**
+     * Marks the filter as executed, so it reports statistics even when no article reaches it.
+     * @param incoming the number of articles about to be fed to the filter, at most
+     */
+    final void begin(int incoming) {
+        executed = true;
+        expect(incoming);
+    }
+
+    /**
+     * Lets stateful filters size their state before a batch of articles; does nothing by default.
+     * @param incoming the number of articles about to be fed to the filter, at most
+     */
+    void expect(int incoming) {
+    }
+
+    /**
+     * Tests a single article, counting it in the statistics.
+     * @param article the article to test
+     * @return true if the article passes the filter
+     */
+    final boolean accept(Article article) {
+        inputCount.increment();
+        if (filter(article)) {
+            outputCount.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Tests a batch of articles, possibly on several threads, counting them in the statistics.
+     * Stateless filters test the articles in parallel; others test them one at a time, unless they override this
+     * with a way to split their state.
+     * @param articles the articles to test
+     * @return the articles that pass the filter, in their original order
+     */
+    List<Article> acceptInParallel(List<Article> articles) {
+        if (isStateless()) {
+            return articles.parallelStream().filter(this::accept).toList();
+        }
+        List<Article> accepted = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            if (accept(article)) {
+                accepted.add(article);
+            }
+        }
+        return Collections.unmodifiableList(accepted);
+    }
+
+    /**
+     * Counts a batch of articles tested without {@link #accept(Article)}.
+     * @param input the number of articles tested
+     * @param output the number of articles that passed
+     */
+    final void count(int input, int output) {
+        inputCount.add(input);
+        outputCount.add(output);
+    }
 
     @Override
     public Map<Statistic, Integer> getExecutionStatistics() {
-        if (inputCount == Integer.MIN_VALUE) {
+        if (!executed) {
             throw new IllegalStateException("Filter has not been executed yet.");
         }
 
+        int input = inputCount.intValue();
+        int output = outputCount.intValue();
         return Map.of(
-                Statistic.INPUT, inputCount,
-                Statistic.OUTPUT, outputCount,
-                Statistic.DROPPED, droppedCount
+                Statistic.INPUT, input,
+                Statistic.OUTPUT, output,
+                Statistic.DROPPED, input - output
         );
     }
 }
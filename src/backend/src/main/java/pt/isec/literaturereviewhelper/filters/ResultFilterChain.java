@@ -5,10 +5,12 @@ import pt.isec.literaturereviewhelper.models.Article;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import static pt.isec.literaturereviewhelper.commons.Params.AUTHOR;
 import static pt.isec.literaturereviewhelper.commons.Params.EXCLUDE_AUTHOR;
@@ -23,9 +25,26 @@ import static pt.isec.literaturereviewhelper.commons.Params.YEAR_START;
 /**
  * Simple filter chain that applies multiple filters in sequence.
  * Every filter must pass for the article to be accepted.
+ * Like its filters, the chain can be fed a result set incrementally; statistics accumulate across calls.
+ * <p>
+ * Consecutive {@link ResultFilterBase} filters are fused into a single pass: each article is tested against them
+ * in order and stops at the first one rejecting it, so every filter sees exactly the articles its predecessors
+ * kept, as if the lists were handed from one filter to the next, without building a list per filter.
+ * <p>
+ * From {@link #DEFAULT_PARALLEL_THRESHOLD} articles on, fused stages run on the common fork-join pool instead:
+ * each run of {@link ResultFilterBase#isStateless() stateless} filters tests the articles in parallel, and other
+ * filters test the survivors through {@link ResultFilterBase#acceptInParallel(List)}. Results and statistics are
+ * the same as in a single pass.
  */
 public final class ResultFilterChain implements IResultFilter {
+    /**
+     * Result set size from which fused stages run in parallel. Below it, splitting the work costs more than it saves
+     * (see ResultFilterChainBenchmarkTest).
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20_000;
+
     private final List<IResultFilter> filters;
+    private final List<Stage> stages;
 
     public Map<String, Map<Statistic, Integer>> getAllExecutionStatistics() {
         return allExecutionStatistics;
@@ -37,18 +56,34 @@ public final class ResultFilterChain implements IResultFilter {
     private int droppedCount = Integer.MIN_VALUE;
 
     public ResultFilterChain(List<IResultFilter> filters) {
+        this(filters, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param filters the filters, applied in order
+     * @param parallelThreshold the result set size from which fused stages run in parallel
+     */
+    public ResultFilterChain(List<IResultFilter> filters, int parallelThreshold) {
         this.filters = new ArrayList<>(Objects.requireNonNull(filters));
+        this.stages = compile(this.filters, parallelThreshold);
     }
 
     @Override
     public List<Article> filter(List<Article> articles) {
         List<Article> filteredArticles = articles;
+        for (Stage stage : stages) {
+            filteredArticles = stage.filter(filteredArticles);
+        }
         for (IResultFilter f : filters) {
-            filteredArticles = f.filter(filteredArticles);
             allExecutionStatistics.put(f.getClass().getSimpleName(), f.getExecutionStatistics());
         }
-        inputCount = articles.size();
-        outputCount = filteredArticles.size();
+        if (inputCount == Integer.MIN_VALUE) {
+            inputCount = 0;
+            outputCount = 0;
+            droppedCount = 0;
+        }
+        inputCount += articles.size();
+        outputCount += filteredArticles.size();
         droppedCount = inputCount - outputCount;
         return filteredArticles;
     }
@@ -66,6 +101,90 @@ public final class ResultFilterChain implements IResultFilter {
         );
     }
 
+    /**
+     * Groups consecutive {@link ResultFilterBase} filters into fused stages; any other filter is its own stage.
+     */
+    private static List<Stage> compile(List<IResultFilter> filters, int parallelThreshold) {
+        List<Stage> stages = new ArrayList<>();
+        List<ResultFilterBase> fused = new ArrayList<>();
+        for (IResultFilter filter : filters) {
+            if (filter instanceof ResultFilterBase base) {
+                fused.add(base);
+                continue;
+            }
+            if (!fused.isEmpty()) {
+                stages.add(new FusedStage(fused.toArray(ResultFilterBase[]::new), parallelThreshold));
+                fused.clear();
+            }
+            stages.add(filter::filter);
+        }
+        if (!fused.isEmpty()) {
+            stages.add(new FusedStage(fused.toArray(ResultFilterBase[]::new), parallelThreshold));
+        }
+        return List.copyOf(stages);
+    }
+
+    private interface Stage {
+        List<Article> filter(List<Article> articles);
+    }
+
+    /**
+     * Runs a sequence of filters in one pass over the articles, or in parallel over a large enough result set.
+     */
+    private record FusedStage(ResultFilterBase[] filters, int parallelThreshold) implements Stage {
+        @Override
+        public List<Article> filter(List<Article> articles) {
+            for (ResultFilterBase filter : filters) {
+                filter.begin(articles.size());
+            }
+            if (articles.size() >= parallelThreshold) {
+                return filterInParallel(articles);
+            }
+            List<Article> accepted = new ArrayList<>(articles.size());
+            for (Article article : articles) {
+                if (acceptedByAll(article)) {
+                    accepted.add(article);
+                }
+            }
+            return Collections.unmodifiableList(accepted);
+        }
+
+        private boolean acceptedByAll(Article article) {
+            return acceptedByAll(article, 0, filters.length);
+        }
+
+        private boolean acceptedByAll(Article article, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (!filters[i].accept(article)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Runs each run of stateless filters as one parallel pass, and hands the survivors to the other filters.
+         */
+        private List<Article> filterInParallel(List<Article> articles) {
+            List<Article> accepted = articles;
+            int from = 0;
+            while (from < filters.length) {
+                int to = from;
+                while (to < filters.length && filters[to].isStateless()) {
+                    to++;
+                }
+                if (to == from) {
+                    accepted = filters[from++].acceptInParallel(accepted);
+                } else {
+                    int first = from;
+                    int last = to;
+                    accepted = accepted.parallelStream().filter(article -> acceptedByAll(article, first, last)).toList();
+                    from = to;
+                }
+            }
+            return accepted;
+        }
+    }
 
     public static class Builder {
         private final List<IResultFilter> filters = new ArrayList<>();
@@ -117,7 +236,8 @@ public final class ResultFilterChain implements IResultFilter {
                 filters.add(new TitleResultFilter(titles, true));
             }
 
-            filters.add(new DuplicateResultFilter());
+            filters.add(new DuplicateResultFilter(false,
+                    DuplicateResultFilter.partitionsFor(ForkJoinPool.getCommonPoolParallelism())));
 
             return this;
         }
@@ -1,6 +1,8 @@
 package pt.isec.literaturereviewhelper.filters;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import pt.isec.literaturereviewhelper.models.Article;
 
@@ -9,7 +11,9 @@ import pt.isec.literaturereviewhelper.models.Article;
  */
 public class TitleResultFilter extends ResultFilterBase {
     private final boolean reversed;
-    private final List<String> titles;
+    private final Set<String> titles;
+    /** Titles holding symbols, compared with the title as given, ignoring case. */
+    private final Set<String> literalTitles;
 
     /**
      * Constructs a case insensitive TitleResultFilter for the given title.
@@ -31,15 +35,21 @@ public class TitleResultFilter extends ResultFilterBase {
      */
     public TitleResultFilter(List<String> titles, boolean reversed) {
         this.reversed = reversed;
-        this.titles = titles.stream().map(String::toLowerCase).map(String::strip).toList();
+        FilterTerms terms = new FilterTerms(titles);
+        this.titles = Set.copyOf(terms.normalized());
+        this.literalTitles = Set.copyOf(terms.literal());
+    }
+
+    @Override
+    boolean isStateless() {
+        return true;
     }
 
     @Override
     boolean filter(Article article) {
-        if (reversed) {
-            return titles.stream().noneMatch(title -> article.title().toLowerCase().equals(title));
-        } else {
-            return titles.stream().anyMatch(title -> article.title().toLowerCase().equals(title));
-        }
+        boolean matches = titles.contains(article.normalized().title())
+                || (!literalTitles.isEmpty() && article.title() != null
+                        && literalTitles.contains(article.title().strip().toLowerCase(Locale.ROOT)));
+        return matches != reversed;
     }
 }
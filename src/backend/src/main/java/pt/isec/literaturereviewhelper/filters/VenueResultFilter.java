@@ -13,7 +13,9 @@ import pt.isec.literaturereviewhelper.models.Article;
 public class VenueResultFilter extends ResultFilterBase {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final boolean reversed;
-    private final List<String> venues;
+    private final AhoCorasickMatcher venues;
+    /** Matcher of the venues holding symbols, compared with the venue as given; null if there are none. */
+    private final AhoCorasickMatcher literalVenues;
 
     /**
      * Constructs a case insensitive VenueResultFilter for the given venues.
@@ -35,7 +37,14 @@ public class VenueResultFilter extends ResultFilterBase {
      */
     public VenueResultFilter(List<String> venues, boolean reversed) {
         this.reversed = reversed;
-        this.venues = venues.stream().map(String::toLowerCase).map(String::strip).toList();
+        FilterTerms terms = new FilterTerms(venues);
+        this.venues = new AhoCorasickMatcher(terms.normalized());
+        this.literalVenues = terms.literal().isEmpty() ? null : new AhoCorasickMatcher(terms.literal());
+    }
+
+    @Override
+    boolean isStateless() {
+        return true;
     }
 
     @Override
@@ -49,10 +58,8 @@ public class VenueResultFilter extends ResultFilterBase {
          * Using contains to allow partial matches (e.g., "IEEE International Conference on Software Architecture"
          * matches "2017 IEEE International Conference on Software Architecture").
          */
-        if (reversed) {
-            return venues.stream().noneMatch(venue -> article.venue().toLowerCase().contains(venue));
-        } else {
-            return venues.stream().anyMatch(venue -> article.venue().toLowerCase().contains(venue));
-        }
+        boolean matches = venues.containsAny(article.normalized().venue())
+                || (literalVenues != null && literalVenues.containsAny(article.venue()));
+        return matches != reversed;
     }
 }
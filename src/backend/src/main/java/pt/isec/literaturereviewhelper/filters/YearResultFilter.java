@@ -41,6 +41,11 @@ public final class YearResultFilter extends ResultFilterBase {
         this.maxYear = maxYear;
     }
 
+    @Override
+    boolean isStateless() {
+        return true;
+    }
+
     @Override
     boolean filter(Article article) {
         if (article.publicationYear() == null) {
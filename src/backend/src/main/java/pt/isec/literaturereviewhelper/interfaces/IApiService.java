@@ -4,6 +4,7 @@ import java.util.Map;
 
 import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
 import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface IApiService {
@@ -15,4 +16,13 @@ public interface IApiService {
      * @return Mono containing search results (articles and statistics)
      */
     Mono<SearchResultDto> search(Engines engine, Map<String, String> params);
+
+    /**
+     * Performs a search using the specified engine, emitting results page by page as they arrive
+     *
+     * @param engine The search engine to use (SPRINGER, HAL, ACM)
+     * @param params Map of search parameters
+     * @return Flux with one element per page (filtered articles and accumulated statistics)
+     */
+    Flux<SearchResultDto> searchIncrementally(Engines engine, Map<String, String> params);
 }
@@ -2,8 +2,10 @@ package pt.isec.literaturereviewhelper.interfaces;
 
 import java.util.Map;
 
+import pt.isec.literaturereviewhelper.dtos.SearchEventDto;
 import pt.isec.literaturereviewhelper.dtos.SearchResponseDto;
 import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ILiteratureReviewService {
@@ -18,6 +20,8 @@ public interface ILiteratureReviewService {
      * @param allParams Map of search parameters, such as:
      *                  - "q": the search query
      *                  - "source": optional, comma-separated list of engines to search
+     *                  - "near_duplicate_threshold": optional, title similarity in (0, 1] from which
+     *                    articles are dropped as near-duplicates (0.8 by default)
      *                  - other engine-specific parameters
      * @param apiKeysByEngine Map associating each search engine (Engines enum) with its API key.
      *                        Each engine in the search should have a corresponding key here.
@@ -25,7 +29,23 @@ public interface ILiteratureReviewService {
      *         - the executed query,
      *         - the list of engines used,
      *         - total number of articles found,
-     *         - a map specifying the number of articles returned per engine
+     *         - a map specifying the number of articles returned per engine,
+     *         - the articles, with the copies returned by several engines merged into one
      */
     Mono<SearchResponseDto> performLiteratureSearch(Map<String,String> allParams, Map<Engines,String> apiKeysByEngine);
+
+    /**
+     * Performs the same search as {@link #performLiteratureSearch}, but streams the outcome as it is produced.
+     *
+     * Engines and their pages are consumed as they respond; each page goes through the engine's filters
+     * and the cross-engine dedupe before its articles are emitted.
+     *
+     * @param allParams Map of search parameters, as in {@link #performLiteratureSearch}
+     * @param apiKeysByEngine Map associating each search engine (Engines enum) with its API key.
+     * @return a Flux of events:
+     *         - an ARTICLE event for every article that survives filtering and dedupe,
+     *         - a PROGRESS event for every page received from an engine,
+     *         - a final SUMMARY event carrying the statistics of a SearchResponseDto (without the articles)
+     */
+    Flux<SearchEventDto> streamLiteratureSearch(Map<String,String> allParams, Map<Engines,String> apiKeysByEngine);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package pt.isec.literaturereviewhelper.interfaces;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import pt.isec.literaturereviewhelper.caches.PageKey;
+import pt.isec.literaturereviewhelper.models.Article;
+
+import reactor.core.publisher.Mono;
+
+public interface IPageCache {
+
+    /**
+     * Returns the cached articles of a page, loading and caching them on a miss.
+     * @param key Engine and normalized request identifying the page
+     * @param ttl How long a freshly loaded page stays valid
+     * @param loader Supplies the upstream call, only invoked on a miss
+     * @return Mono containing the articles of the page
+     */
+    Mono<List<Article>> getOrLoad(PageKey key, Duration ttl, Supplier<Mono<List<Article>>> loader);
+}
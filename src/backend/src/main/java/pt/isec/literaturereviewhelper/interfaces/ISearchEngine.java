@@ -4,6 +4,7 @@ import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
 
 import java.util.Map;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ISearchEngine {
@@ -15,6 +16,14 @@ public interface ISearchEngine {
      */
     Mono<SearchResultDto> search(Map<String, String> params);
 
+    /**
+     * Performs a search with the given parameters, emitting results page by page as they arrive
+     * @param params Map of search parameters (query, pagination, API-specific params)
+     * @return Flux with one element per page, holding the page's articles that passed the filters
+     *         and the filter statistics accumulated so far
+     */
+    Flux<SearchResultDto> searchIncrementally(Map<String, String> params);
+
     /**
      * Maps raw parameters to API parameters
      * @param raw Parameters passed on the query
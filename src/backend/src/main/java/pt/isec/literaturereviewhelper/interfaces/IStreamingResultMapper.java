@@ -0,0 +1,19 @@
+package pt.isec.literaturereviewhelper.interfaces;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import pt.isec.literaturereviewhelper.models.Article;
+import reactor.core.publisher.Flux;
+
+/**
+ * Result mapper able to decode the raw response body incrementally, emitting each article as soon as it has been
+ * read instead of first binding the whole response.
+ */
+public interface IStreamingResultMapper<R> extends IResultMapper<R> {
+    /**
+     * Decodes a response body into articles.
+     * @param body Raw response body; buffers are released by the mapper
+     * @return the articles, in response order
+     */
+    Flux<Article> mapStream(Flux<DataBuffer> body);
+}
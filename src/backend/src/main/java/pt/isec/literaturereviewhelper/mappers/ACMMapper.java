@@ -2,17 +2,26 @@ package pt.isec.literaturereviewhelper.mappers;
 
 import org.springframework.stereotype.Component;
 
-import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.ACMResponse;
 import pt.isec.literaturereviewhelper.models.Engines;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 @Component
-public class ACMMapper implements IResultMapper<ACMResponse> {
+public class ACMMapper extends JsonStreamingMapperBase<ACMResponse> {
+    private static final List<String> RECORDS_PATH = List.of("message", "items");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     @Override
     public List<Article> map(ACMResponse response) {
         if (response == null ||
@@ -24,15 +33,6 @@ public class ACMMapper implements IResultMapper<ACMResponse> {
         return response.getMessage().getItems().stream()
                 .filter(Objects::nonNull)
                 .map(item -> {
-                    // Title
-                    String title = Optional.ofNullable(item.getTitle())
-                            .filter(t -> !t.isEmpty())
-                            .map(t -> t.get(0)
-                                    .replace("\n", " ")
-                                    .replaceAll("\\s+", " ")
-                                    .trim())
-                            .orElse("");
-
                     // Year: try publishedPrint, then publishedOnline
                     String year = Optional.ofNullable(item.getPublishedPrint())
                             .map(p -> extractYear(p.getDateParts()))
@@ -43,33 +43,175 @@ public class ACMMapper implements IResultMapper<ACMResponse> {
                     // Authors
                     List<String> authors = Optional.ofNullable(item.getAuthors())
                             .map(list -> list.stream()
-                                    .map(a -> String.format("%s %s",
-                                            Optional.ofNullable(a.given()).orElse(""),
-                                            Optional.ofNullable(a.family()).orElse("")).trim())
-                                    .filter(name -> !name.isEmpty())
+                                    .map(a -> authorName(a.given(), a.family()))
                                     .toList())
                             .orElse(List.of());
 
-                    // Venue
-                    String venue = Optional.ofNullable(item.getContainerTitle())
-                            .filter(v -> !v.isEmpty())
-                            .map(v -> v.get(0))
-                            .orElse("");
-
-                    // Type
-                    String type = Optional.ofNullable(item.getType()).orElse("");
-
                     // Link
                     String link = Optional.ofNullable(item.getLink())
                             .filter(l -> !l.isEmpty())
                             .map(l -> l.get(0).get("URL"))
                             .orElse("");
 
-                    return new Article(title, year, venue, type, authors, link, Engines.ACM);
+                    return toArticle(item.getTitle(), year, authors, item.getContainerTitle(), item.getType(), link,
+                            item.getDoi());
                 })
                 .toList();
     }
 
+    @Override
+    protected List<String> getRecordsPath() {
+        return RECORDS_PATH;
+    }
+
+    @Override
+    protected Article readRecord(JsonParser parser) throws IOException {
+        List<String> titles = null;
+        String printYear = null;
+        String onlineYear = null;
+        List<String> authors = List.of();
+        List<String> containerTitles = null;
+        String type = null;
+        String link = "";
+        String doi = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "title" -> titles = readTextArray(parser);
+                case "published-print" -> printYear = readYear(parser);
+                case "published-online" -> onlineYear = readYear(parser);
+                // Crossref names the field "author"; "authors" is what the bound model expects
+                case "author", "authors" -> authors = readAuthors(parser);
+                case "container-title" -> containerTitles = readTextArray(parser);
+                case "type" -> type = readText(parser);
+                case "link" -> link = readFirstLink(parser);
+                case "DOI" -> doi = readText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        String year = printYear != null ? printYear : Optional.ofNullable(onlineYear).orElse("");
+        return toArticle(titles, year, authors, containerTitles, type, link, doi);
+    }
+
+    /**
+     * Reads a date object ({@code {"date-parts": [[year, month, day]]}}), returning its year.
+     */
+    private static String readYear(JsonParser parser) throws IOException {
+        String year = "";
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return year;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("date-parts".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                boolean first = true;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (first && parser.currentToken() == JsonToken.START_ARRAY) {
+                        List<String> parts = readTextArray(parser);
+                        year = parts.isEmpty() ? "" : parts.get(0);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    first = false;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return year;
+    }
+
+    private static List<String> readAuthors(JsonParser parser) throws IOException {
+        List<String> authors = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return authors;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String given = null;
+            String family = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "given" -> given = readText(parser);
+                    case "family" -> family = readText(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            authors.add(authorName(given, family));
+        }
+        return authors;
+    }
+
+    /**
+     * Reads the link array, returning the URL of its first element.
+     */
+    private static String readFirstLink(JsonParser parser) throws IOException {
+        String link = null;
+        boolean first = true;
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if ("URL".equals(field)) {
+                        link = readText(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+        return Optional.ofNullable(link).orElse("");
+    }
+
+    private static String authorName(String given, String family) {
+        return (Optional.ofNullable(given).orElse("") + " " + Optional.ofNullable(family).orElse("")).trim();
+    }
+
+    private static Article toArticle(List<String> titles, String year, List<String> authorNames,
+                                     List<String> containerTitles, String rawType, String link, String doi) {
+        // Title
+        String title = Optional.ofNullable(titles)
+                .filter(t -> !t.isEmpty())
+                .map(t -> WHITESPACE.matcher(t.get(0)).replaceAll(" ").trim())
+                .orElse("");
+
+        // Authors
+        List<String> authors = authorNames.stream()
+                .filter(name -> !name.isEmpty())
+                .toList();
+
+        // Venue
+        String venue = Optional.ofNullable(containerTitles)
+                .filter(v -> !v.isEmpty())
+                .map(v -> v.get(0))
+                .orElse("");
+
+        // Type
+        String type = Optional.ofNullable(rawType).orElse("");
+
+        return new Article(title, year, venue, type, authors, Optional.ofNullable(link).orElse(""), Engines.ACM,
+                TextNormalizer.normalizeDoi(doi));
+    }
+
     private String extractYear(List<List<Integer>> dateParts) {
         if (dateParts == null || dateParts.isEmpty() || dateParts.get(0).isEmpty()) return "";
         return String.valueOf(dateParts.get(0).get(0));
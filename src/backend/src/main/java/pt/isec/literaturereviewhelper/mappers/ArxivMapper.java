@@ -1,17 +1,29 @@
 package pt.isec.literaturereviewhelper.mappers;
 
 import org.springframework.stereotype.Component;
-import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
 import pt.isec.literaturereviewhelper.models.ArxivResponse;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 @Component("arxivResultMapper")
-public class ArxivMapper implements IResultMapper<ArxivResponse> {
+public class ArxivMapper extends StreamingMapperBase<ArxivResponse> {
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String ARXIV_NS = "http://arxiv.org/schemas/atom";
+
+    /** Factories are thread-safe once configured, so a single one serves every page. */
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
 
     @Override
     public List<Article> map(ArxivResponse response) {
@@ -19,37 +31,137 @@ public class ArxivMapper implements IResultMapper<ArxivResponse> {
         if (response == null || response.getEntries() == null)
             return Collections.emptyList();
 
-        return response.getEntries().stream().map(entry -> {
+        return response.getEntries().stream().map(entry -> toArticle(
+                entry.getId(),
+                entry.getTitle(),
+                entry.getPublished(),
+                entry.getAuthors() == null ? List.of() : entry.getAuthors().stream()
+                        .map(ArxivResponse.Author::getName)
+                        .toList(),
+                entry.getDoi()
+        )).toList();
+    }
+
+    /**
+     * Pull-parses the Atom feed, turning each {@code entry} element into an Article as soon as it is closed.
+     */
+    @Override
+    protected ArticleReader open(InputStream body) throws IOException {
+        try {
+            return new AtomEntryReader(body, XML_INPUT_FACTORY.createXMLStreamReader(body));
+        } catch (XMLStreamException e) {
+            body.close();
+            throw new IOException("Invalid arXiv feed", e);
+        }
+    }
 
-            String title = entry.getTitle() != null ? entry.getTitle().trim() : "";
+    private static Article toArticle(String id, String rawTitle, String published, List<String> authorNames,
+                                     String doi) {
+        String title = rawTitle != null ? rawTitle.trim() : "";
 
-            String year = "";
-            if (entry.getPublished() != null && entry.getPublished().length() >= 4) {
-                year = entry.getPublished().substring(0, 4);
-            }
+        String year = "";
+        if (published != null && published.length() >= 4) {
+            year = published.substring(0, 4);
+        }
 
-            String authorsStr = "";
-            if (entry.getAuthors() != null) {
-            authorsStr = entry.getAuthors().stream()
-                .map(ArxivResponse.Author::getName)
+        String authorsStr = authorNames.stream()
                 .filter(Objects::nonNull)
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
                 .reduce((a, b) -> a + ", " + b) // junta com vírgula
                 .orElse("");
-}
 
-            return new Article(
-                    title,
-                    year,
-                    "arXiv",
-                    "Preprint",
-                    List.of(authorsStr),
-                    entry.getId(),
-                    Engines.ARXIV
-            );
-
-        }).toList();
+        return new Article(
+                title,
+                year,
+                "arXiv",
+                "Preprint",
+                List.of(authorsStr),
+                id,
+                Engines.ARXIV,
+                TextNormalizer.normalizeDoi(doi)
+        );
     }
-}
 
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Reads the entries of an Atom feed one at a time, keeping only the fields of the current entry.
+     */
+    private static final class AtomEntryReader implements ArticleReader {
+        private final InputStream body;
+        private final XMLStreamReader xml;
+
+        AtomEntryReader(InputStream body, XMLStreamReader xml) {
+            this.body = body;
+            this.xml = xml;
+        }
+
+        @Override
+        public Article next() throws IOException {
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && isAtom("entry")) {
+                        return readEntry();
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new IOException("Invalid arXiv feed", e);
+            }
+        }
+
+        private Article readEntry() throws XMLStreamException {
+            String id = null;
+            String title = null;
+            String published = null;
+            String doi = null;
+            List<String> authorNames = new ArrayList<>();
+
+            int depth = 1;
+            while (depth > 0) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                } else if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (depth == 1 && isAtom("id")) {
+                        id = xml.getElementText();
+                    } else if (depth == 1 && isAtom("title")) {
+                        title = xml.getElementText();
+                    } else if (depth == 1 && isAtom("published")) {
+                        published = xml.getElementText();
+                    } else if (depth == 1 && ARXIV_NS.equals(xml.getNamespaceURI()) && "doi".equals(xml.getLocalName())) {
+                        doi = xml.getElementText();
+                    } else if (depth == 2 && isAtom("name")) {
+                        authorNames.add(xml.getElementText());
+                    } else {
+                        depth++;
+                    }
+                }
+            }
+            return toArticle(id, title, published, authorNames, doi);
+        }
+
+        private boolean isAtom(String localName) {
+            return localName.equals(xml.getLocalName()) && ATOM_NS.equals(xml.getNamespaceURI());
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                xml.close();
+            } catch (XMLStreamException ignored) {
+                // The underlying stream is closed below either way
+            } finally {
+                body.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package pt.isec.literaturereviewhelper.mappers;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental BibTeX tokenizer. Entries are read one at a time straight from the reader, so only the entry being
+ * parsed is held in memory.
+ * <p>
+ * Field names are upper-cased and values keep their inner braces, with whitespace runs collapsed to a single space.
+ * {@code @comment}, {@code @preamble} and {@code @string} blocks are skipped, and a malformed entry is dropped
+ * without affecting the entries after it.
+ */
+final class BibtexReader implements Closeable {
+    private static final Set<String> IGNORED_TYPES = Set.of("comment", "preamble", "string");
+
+    private final Reader in;
+    private int peeked = Integer.MIN_VALUE;
+
+    BibtexReader(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+    }
+
+    /**
+     * Reads the next entry.
+     * @return the next entry, or null at the end of the input
+     */
+    Entry next() throws IOException {
+        while (skipPast('@')) {
+            String type = readName().toLowerCase(Locale.ROOT);
+            skipWhitespace();
+            int open = read();
+            if (type.isEmpty() || (open != '{' && open != '(')) {
+                continue;
+            }
+            int close = open == '{' ? '}' : ')';
+            if (IGNORED_TYPES.contains(type)) {
+                skipBlock(close);
+                continue;
+            }
+
+            Entry entry = readEntry(type, close);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads the citation key and the fields of an entry, up to its closing delimiter.
+     * @return the entry, or null if it is malformed
+     */
+    private Entry readEntry(String type, int close) throws IOException {
+        int c;
+        while ((c = peek()) != ',' && c != close) {
+            if (c == -1 || c == '@') {
+                return null;
+            }
+            read();
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        while (true) {
+            skipWhitespace();
+            c = read();
+            if (c == close) {
+                return new Entry(type, fields);
+            }
+            if (c == ',') {
+                continue;
+            }
+            if (c == -1 || c == '@') {
+                return null;
+            }
+
+            String name = (char) c + readName();
+            skipWhitespace();
+            if (read() != '=') {
+                skipBlock(close);
+                return null;
+            }
+            String value = readValue(close);
+            if (value == null) {
+                return null;
+            }
+            fields.put(name.toUpperCase(Locale.ROOT), value);
+        }
+    }
+
+    /**
+     * Reads a field value made of braced, quoted or bare parts joined with {@code #}.
+     * @return the value, or null at an unexpected end of input
+     */
+    private String readValue(int close) throws IOException {
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            skipWhitespace();
+            int c = peek();
+            if (c == '{') {
+                read();
+                if (!readDelimited(value, '}')) {
+                    return null;
+                }
+            } else if (c == '"') {
+                read();
+                if (!readDelimited(value, '"')) {
+                    return null;
+                }
+            } else {
+                while ((c = peek()) != -1 && c != ',' && c != close && c != '#' && !Character.isWhitespace(c)) {
+                    value.append((char) read());
+                }
+            }
+
+            skipWhitespace();
+            if (peek() != '#') {
+                return value.toString().trim();
+            }
+            read();
+        }
+    }
+
+    /**
+     * Appends the text up to the given terminator, found outside nested braces.
+     * @return false if the input ended first
+     */
+    private boolean readDelimited(StringBuilder value, int terminator) throws IOException {
+        int depth = 0;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return false;
+            }
+            if (c == terminator && depth == 0) {
+                return true;
+            }
+            if (c == '\\') {
+                value.append('\\');
+                c = read();
+                if (c == -1) {
+                    return false;
+                }
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            }
+
+            if (Character.isWhitespace(c)) {
+                if (!value.isEmpty() && value.charAt(value.length() - 1) != ' ') {
+                    value.append(' ');
+                }
+            } else {
+                value.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Skips the rest of a block, up to the closing delimiter found outside nested braces.
+     */
+    private void skipBlock(int close) throws IOException {
+        int depth = 0;
+        int c;
+        while ((c = read()) != -1) {
+            if (c == close && depth == 0) {
+                return;
+            }
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            }
+        }
+    }
+
+    private String readName() throws IOException {
+        StringBuilder name = new StringBuilder();
+        int c;
+        while ((c = peek()) != -1 && (Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == ':' || c == '.')) {
+            name.append((char) read());
+        }
+        return name.toString();
+    }
+
+    private boolean skipPast(int target) throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            if (c == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (Character.isWhitespace(peek())) {
+            read();
+        }
+    }
+
+    private int peek() throws IOException {
+        if (peeked == Integer.MIN_VALUE) {
+            peeked = in.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = Integer.MIN_VALUE;
+        return c;
+    }
+
+    /**
+     * A parsed entry: its type (lower case) and its fields by upper-case name.
+     */
+    record Entry(String type, Map<String, String> fields) {
+        String field(String name) {
+            return fields.getOrDefault(name, "");
+        }
+    }
+}
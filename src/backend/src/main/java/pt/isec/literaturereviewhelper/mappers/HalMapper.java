@@ -1,106 +1,102 @@
 package pt.isec.literaturereviewhelper.mappers;
 
-import org.jbibtex.*;
 import org.springframework.stereotype.Component;
-import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 import pt.isec.literaturereviewhelper.models.HalResponse;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.regex.Pattern;
 
 @Component("halResultMapper")
-public class HalMapper implements IResultMapper<String> {
-    private static final String AND_SPLIT = " and ";
+public class HalMapper extends StreamingMapperBase<String> {
+    private static final Pattern AND_SPLIT = Pattern.compile(" and ", Pattern.LITERAL);
 
     @Override
     public List<Article> map(String bibtexData) {
         if (bibtexData == null || bibtexData.isBlank()) return List.of();
 
-        HalResponse model = parseBibtex(bibtexData);
-
-        List<Article> out = new ArrayList<>();
-        for (HalResponse.Entry e : model.getEntries()) {
-            String title = safe(e.getTitle()).replace("{", "").replace("}", "");
-            List<String> authors = e.getAuthors();
-            String year = safe(e.getYear());
-            String venue = e.computeVenue();
-            String venueType = e.computeVenueType();
-            String link = safe(e.getUrl());
-
-            out.add(new Article(
-                    title,
-                    year,
-                    venue,
-                    venueType,
-                    authors,
-                    link,
-                    Engines.HAL
-            ));
+        try (ArticleReader reader = articles(new StringReader(bibtexData))) {
+            return readAll(reader);
+        } catch (IOException ignored) {
+            // Not reachable for an in-memory body; malformed entries are skipped by the tokenizer
+            return List.of();
         }
-        return out;
     }
 
-    private String safe(String s) { return s == null ? "" : s; }
+    @Override
+    protected ArticleReader open(InputStream body) {
+        return articles(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
 
     /**
-     * Parses BibTeX to HalResponse using jbibtex. Uses old logic.
+     * Reads BibTeX entries one at a time, mapping each to an Article as soon as it is complete.
      */
-    private HalResponse parseBibtex(String bibtexData) {
-        HalResponse response = new HalResponse();
-        try {
-            BibTeXParser parser = new BibTeXParser();
-            BibTeXDatabase db = parser.parse(new StringReader(bibtexData));
-
-            for (BibTeXEntry entry : db.getEntries().values()) {
-                HalResponse.Entry e = new HalResponse.Entry();
-
-                // Title
-                e.setTitle(getField(entry, "TITLE")
-                        .replace("{", "").replace("}", ""));
-
-                // Authors: split
-                String rawAuthors = getField(entry, "AUTHOR");
-                if (!rawAuthors.isBlank()) {
-                    // BibTeX joins authors
-                    String[] arr = rawAuthors.split(Pattern.quote(AND_SPLIT));
-                    for (String a : arr) {
-                        String cleaned = a.trim();
-                        if (!cleaned.isBlank()) e.getAuthors().add(cleaned);
-                    }
-                }
-
-                // Year
-                e.setYear(getField(entry, "YEAR"));
-
-                // Venue: JOURNAL > BOOKTITLE > SCHOOL > PUBLISHER
-                e.setJournal(getField(entry, "JOURNAL"));
-                e.setBooktitle(getField(entry, "BOOKTITLE"));
-                e.setSchool(getField(entry, "SCHOOL"));
-                e.setPublisher(getField(entry, "PUBLISHER"));
-
-                // Entry type (raw bibtex type)
-                if (entry.getType() != null && entry.getType().getValue() != null) {
-                    e.setType(entry.getType().getValue());
-                }
-
-                // Link
-                e.setUrl(getField(entry, "URL"));
-
-                response.addEntry(e);
+    private ArticleReader articles(Reader bibtex) {
+        BibtexReader entries = new BibtexReader(bibtex);
+        return new ArticleReader() {
+            @Override
+            public Article next() throws IOException {
+                BibtexReader.Entry entry = entries.next();
+                return entry == null ? null : toArticle(entry);
             }
-        } catch (Exception ignored) {
-            // It won't throw an error here because parsing failures or malformed BibTeX won't throw nor crash.
-            // Returning an empty HalResponse is valid because it's treated on the caller side.
-        }
-        return response;
+
+            @Override
+            public void close() throws IOException {
+                entries.close();
+            }
+        };
     }
 
-    private String getField(BibTeXEntry entry, String key) {
-        Value v = entry.getField(new Key(key));
-        return v == null ? "" : v.toUserString();
+    private Article toArticle(BibtexReader.Entry entry) {
+        HalResponse.Entry e = new HalResponse.Entry();
+
+        // Title
+        e.setTitle(entry.field("TITLE").replace("{", "").replace("}", ""));
+
+        // Authors: BibTeX joins them with " and "
+        String rawAuthors = entry.field("AUTHOR");
+        if (!rawAuthors.isBlank()) {
+            for (String a : AND_SPLIT.split(rawAuthors)) {
+                String cleaned = a.trim();
+                if (!cleaned.isBlank()) e.getAuthors().add(cleaned);
+            }
+        }
+
+        // Year
+        e.setYear(entry.field("YEAR"));
+
+        // Venue: JOURNAL > BOOKTITLE > SCHOOL > PUBLISHER
+        e.setJournal(entry.field("JOURNAL"));
+        e.setBooktitle(entry.field("BOOKTITLE"));
+        e.setSchool(entry.field("SCHOOL"));
+        e.setPublisher(entry.field("PUBLISHER"));
+
+        // Entry type (raw bibtex type)
+        e.setType(entry.type());
+
+        // Link
+        e.setUrl(entry.field("URL"));
+
+        // DOI
+        e.setDoi(entry.field("DOI"));
+
+        return new Article(
+                e.getTitle(),
+                e.getYear(),
+                e.computeVenue(),
+                e.computeVenueType(),
+                List.copyOf(e.getAuthors()),
+                e.getUrl(),
+                Engines.HAL,
+                TextNormalizer.normalizeDoi(e.getDoi())
+        );
     }
 }
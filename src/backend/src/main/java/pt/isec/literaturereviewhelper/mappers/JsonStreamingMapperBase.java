@@ -0,0 +1,142 @@
+package pt.isec.literaturereviewhelper.mappers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import pt.isec.literaturereviewhelper.models.Article;
+
+/**
+ * Base class for mappers that read a JSON response with a token stream.
+ * <p>
+ * The parser walks down to the array holding the records, skipping every other field without binding it, then
+ * hands each record to {@link #readRecord(JsonParser)}, which reads only the fields it needs.
+ */
+public abstract class JsonStreamingMapperBase<R> extends StreamingMapperBase<R> {
+    /** Factories are thread-safe and meant to be shared. */
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    /**
+     * Returns the field names leading from the root object to the array of records.
+     * @return the path to the records array
+     */
+    protected abstract List<String> getRecordsPath();
+
+    /**
+     * Reads one record. The parser is positioned on the record's START_OBJECT and must be left on its END_OBJECT.
+     * @param parser Parser positioned on the record
+     * @return the record as an Article
+     * @throws IOException if the record cannot be read
+     */
+    protected abstract Article readRecord(JsonParser parser) throws IOException;
+
+    @Override
+    protected ArticleReader open(InputStream body) throws IOException {
+        JsonParser parser = JSON_FACTORY.createParser(body);
+        boolean found;
+        try {
+            found = moveToRecords(parser);
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+
+        return new ArticleReader() {
+            private boolean exhausted = !found;
+
+            @Override
+            public Article next() throws IOException {
+                while (!exhausted) {
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.START_OBJECT) {
+                        return readRecord(parser);
+                    }
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        exhausted = true;
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public void close() throws IOException {
+                parser.close();
+            }
+        };
+    }
+
+    /**
+     * Advances the parser to the START_ARRAY of the records.
+     * @return false if the response holds no records array
+     */
+    private boolean moveToRecords(JsonParser parser) throws IOException {
+        List<String> path = getRecordsPath();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        for (int depth = 0; depth < path.size(); depth++) {
+            boolean last = depth == path.size() - 1;
+            if (!moveToField(parser, path.get(depth))) {
+                return false;
+            }
+            JsonToken value = parser.nextToken();
+            if (value != (last ? JsonToken.START_ARRAY : JsonToken.START_OBJECT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Advances to the given field of the current object, skipping the fields before it.
+     */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (name.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Reads the current value as text. Null, objects and arrays read as null (and are skipped).
+     */
+    protected static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != null && token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Reads the current value as an array of strings, ignoring non-text elements.
+     * Any other value reads as an empty list.
+     */
+    protected static List<String> readTextArray(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return values;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String value = readText(parser);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+}
@@ -2,15 +2,22 @@ package pt.isec.literaturereviewhelper.mappers;
 
 import org.springframework.stereotype.Component;
 
-import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 import pt.isec.literaturereviewhelper.models.ScopusResponse;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.regex.Pattern;
 
 @Component("scopusResultMapper")
-public class ScopusMapper implements IResultMapper<ScopusResponse>{
+public class ScopusMapper extends JsonStreamingMapperBase<ScopusResponse> {
+    private static final List<String> RECORDS_PATH = List.of("search-results", "entry");
+    private static final Pattern AUTHOR_SEPARATOR = Pattern.compile("[;,]");
 
     public List<Article> map(ScopusResponse response) {
 
@@ -23,29 +30,6 @@ public class ScopusMapper implements IResultMapper<ScopusResponse>{
         return response.getSearchResults().getEntries()
                 .stream()
                 .map(entry -> {
-
-                    // Title
-                    String title = Optional.ofNullable(entry.getTitle()).orElse("");
-
-                    // Extract year from date (format: yyyy-mm-dd)
-                    String date = Optional.ofNullable(entry.getCoverDate()).orElse("");
-                    String year = date.contains("-") ? date.split("-")[0] : date;
-
-                    // Venue (Journal, Conference...)
-                    String venue = Optional.ofNullable(entry.getPublicationName()).orElse("");
-
-                    // Venue Type (prefer subtypeDescription)
-                    String venueType = Optional.ofNullable(entry.getSubtypeDescription())
-                            .orElse(Optional.ofNullable(entry.getAggregationType()).orElse(""));
-
-                    // Authors: dc:creator is a single string that may contain multiple authors separated by ; or ,
-                    List<String> authors = Optional.ofNullable(entry.getAuthors())
-                                .map(a -> Arrays.stream(a.split("[;,]"))
-                                .map(String::trim)
-                                .filter(s -> !s.isBlank())
-                                .toList())
-                                .orElse(List.of());
-
                     // Link: find link with ref="scopus"
                     String link = "";
                     if (entry.getLinks() != null) {
@@ -57,16 +41,116 @@ public class ScopusMapper implements IResultMapper<ScopusResponse>{
                                 .orElse("");
                     }
 
-                    return new Article(
-                            title,
-                            year,
-                            venue,
-                            venueType,
-                            authors,
-                            link,
-                            Engines.SCOPUS
-                    );
+                    return toArticle(entry.getTitle(), entry.getCoverDate(), entry.getPublicationName(),
+                            entry.getSubtypeDescription(), entry.getAggregationType(), entry.getAuthors(), link,
+                            entry.getDoi());
                 })
                 .toList();
     }
+
+    @Override
+    protected List<String> getRecordsPath() {
+        return RECORDS_PATH;
+    }
+
+    @Override
+    protected Article readRecord(JsonParser parser) throws IOException {
+        String title = null;
+        String coverDate = null;
+        String publicationName = null;
+        String subtypeDescription = null;
+        String aggregationType = null;
+        String creator = null;
+        String link = "";
+        String doi = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "dc:title" -> title = readText(parser);
+                case "prism:coverDate" -> coverDate = readText(parser);
+                case "prism:publicationName" -> publicationName = readText(parser);
+                case "subtypeDescription" -> subtypeDescription = readText(parser);
+                case "prism:aggregationType" -> aggregationType = readText(parser);
+                case "dc:creator" -> creator = readText(parser);
+                case "link" -> link = readScopusLink(parser);
+                case "prism:doi" -> doi = readText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return toArticle(title, coverDate, publicationName, subtypeDescription, aggregationType, creator, link, doi);
+    }
+
+    /**
+     * Reads the link array, returning the href of the first link with ref="scopus".
+     */
+    private static String readScopusLink(JsonParser parser) throws IOException {
+        String link = "";
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return link;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String ref = null;
+            String href = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "@ref" -> ref = readText(parser);
+                    case "@href" -> href = readText(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (link.isEmpty() && href != null && "scopus".equalsIgnoreCase(ref)) {
+                link = href;
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+        }
+        return link;
+    }
+
+    private static Article toArticle(String rawTitle, String coverDate, String publicationName,
+                                     String subtypeDescription, String aggregationType, String creator, String link,
+                                     String doi) {
+        // Title
+        String title = Optional.ofNullable(rawTitle).orElse("");
+
+        // Extract year from date (format: yyyy-mm-dd)
+        String date = Optional.ofNullable(coverDate).orElse("");
+        String year = date.contains("-") ? date.split("-")[0] : date;
+
+        // Venue (Journal, Conference...)
+        String venue = Optional.ofNullable(publicationName).orElse("");
+
+        // Venue Type (prefer subtypeDescription)
+        String venueType = Optional.ofNullable(subtypeDescription)
+                .orElse(Optional.ofNullable(aggregationType).orElse(""));
+
+        // Authors: dc:creator is a single string that may contain multiple authors separated by ; or ,
+        List<String> authors = Optional.ofNullable(creator)
+                    .map(a -> AUTHOR_SEPARATOR.splitAsStream(a)
+                    .map(String::trim)
+                    .filter(s -> !s.isBlank())
+                    .toList())
+                    .orElse(List.of());
+
+        return new Article(
+                title,
+                year,
+                venue,
+                venueType,
+                authors,
+                link,
+                Engines.SCOPUS,
+                TextNormalizer.normalizeDoi(doi)
+        );
+    }
 }
@@ -1,62 +1,173 @@
 package pt.isec.literaturereviewhelper.mappers;
 
 import org.springframework.stereotype.Component;
-import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 import pt.isec.literaturereviewhelper.models.SpringerResponse;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @Component("springerResultMapper")
-public class SpringerMapper implements IResultMapper<SpringerResponse> {
+public class SpringerMapper extends JsonStreamingMapperBase<SpringerResponse> {
+    private static final List<String> RECORDS_PATH = List.of("records");
+
     @Override
     public List<Article> map(SpringerResponse response) {
         if (response == null || response.getRecords() == null)
             return Collections.emptyList();
 
         return response.getRecords().stream().map(rec -> {
-            // Title
-            String title = Optional.ofNullable(rec.getTitle())
-                    .map(s -> s.replace("\n", " ").trim())
-                    .orElse("");
-
-            // Year
-            String pubDate = Optional.ofNullable(rec.getPublicationDate()).orElse("");
-            String year = pubDate.contains("-") ? pubDate.split("-")[0] : pubDate;
-
-            // Venue and type
-            String venue = Optional.ofNullable(rec.getPublicationName()).orElse("");
-            String venueType = Optional.ofNullable(rec.getContentType()).orElse("");
-
             // Authors
             List<String> authors = List.of();
             if (rec.getCreators() != null) {
                 authors = rec.getCreators().stream()
                         .filter(Objects::nonNull)
                         .map(SpringerResponse.Creator::getName)
-                        .filter(s -> s != null && !s.isBlank())
                         .toList();
             }
 
             // Link
             String link = "";
             if (rec.getUrl() != null && !rec.getUrl().isEmpty()) {
-                link = Optional.ofNullable(rec.getUrl().get(0).getValue()).orElse("");
+                link = rec.getUrl().get(0).getValue();
             }
 
-            return new Article(
-                    title,
-                    year,
-                    venue,
-                    venueType,
-                    authors,
-                    link,
-                    Engines.SPRINGER
-            );
+            return toArticle(rec.getTitle(), rec.getPublicationDate(), rec.getPublicationName(),
+                    rec.getContentType(), authors, link, rec.getDoi());
         }).toList();
     }
+
+    @Override
+    protected List<String> getRecordsPath() {
+        return RECORDS_PATH;
+    }
+
+    @Override
+    protected Article readRecord(JsonParser parser) throws IOException {
+        String title = null;
+        String publicationDate = null;
+        String publicationName = null;
+        String contentType = null;
+        List<String> creators = List.of();
+        String link = "";
+        String doi = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "title" -> title = readText(parser);
+                case "publicationDate" -> publicationDate = readText(parser);
+                case "publicationName" -> publicationName = readText(parser);
+                case "contentType" -> contentType = readText(parser);
+                case "creators" -> creators = readCreators(parser);
+                case "url" -> link = readFirstUrl(parser);
+                case "doi" -> doi = readText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return toArticle(title, publicationDate, publicationName, contentType, creators, link, doi);
+    }
+
+    /**
+     * Reads the creators array. The API names the field "creator"; "name" is accepted as well.
+     */
+    private static List<String> readCreators(JsonParser parser) throws IOException {
+        List<String> creators = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return creators;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("creator".equals(field) || "name".equals(field)) {
+                    creators.add(readText(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return creators;
+    }
+
+    /**
+     * Reads the url array, returning the value of its first element.
+     */
+    private static String readFirstUrl(JsonParser parser) throws IOException {
+        String link = null;
+        boolean first = true;
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if ("value".equals(field)) {
+                        link = readText(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+        return Optional.ofNullable(link).orElse("");
+    }
+
+    private static Article toArticle(String rawTitle, String publicationDate, String publicationName,
+                                     String contentType, List<String> creators, String rawLink, String doi) {
+        // Title
+        String title = Optional.ofNullable(rawTitle)
+                .map(s -> s.replace("\n", " ").trim())
+                .orElse("");
+
+        // Year
+        String pubDate = Optional.ofNullable(publicationDate).orElse("");
+        String year = pubDate.contains("-") ? pubDate.split("-")[0] : pubDate;
+
+        // Venue and type
+        String venue = Optional.ofNullable(publicationName).orElse("");
+        String venueType = Optional.ofNullable(contentType).orElse("");
+
+        // Authors
+        List<String> authors = creators.stream()
+                .filter(s -> s != null && !s.isBlank())
+                .toList();
+
+        // Link
+        String link = Optional.ofNullable(rawLink).orElse("");
+
+        return new Article(
+                title,
+                year,
+                venue,
+                venueType,
+                authors,
+                link,
+                Engines.SPRINGER,
+                TextNormalizer.normalizeDoi(doi)
+        );
+    }
 }
@@ -0,0 +1,85 @@
+package pt.isec.literaturereviewhelper.mappers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import pt.isec.literaturereviewhelper.interfaces.IStreamingResultMapper;
+import pt.isec.literaturereviewhelper.models.Article;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Base class for mappers that pull-parse the response body.
+ * <p>
+ * The body is exposed as an {@link InputStream} that only requests a few buffers ahead, and articles are read one
+ * at a time on the bounded elastic scheduler, so a page never has to be held in memory as a whole.
+ */
+public abstract class StreamingMapperBase<R> implements IStreamingResultMapper<R> {
+    /** Number of network buffers requested ahead of the parser. */
+    private static final int PREFETCH_BUFFERS = 4;
+
+    /**
+     * Reads articles one by one from a response body.
+     */
+    protected interface ArticleReader extends Closeable {
+        /**
+         * Reads the next article.
+         * @return the next article, or null once the body is exhausted
+         * @throws IOException if the body cannot be read
+         */
+        Article next() throws IOException;
+    }
+
+    /**
+     * Opens a reader over a response body.
+     * @param body Response body
+     * @return a reader emitting the body's articles
+     * @throws IOException if the body cannot be read
+     */
+    protected abstract ArticleReader open(InputStream body) throws IOException;
+
+    @Override
+    public Flux<Article> mapStream(Flux<DataBuffer> body) {
+        return Flux.<Article, ArticleReader>using(
+                        () -> open(DataBufferUtils.subscriberInputStream(body, PREFETCH_BUFFERS)),
+                        reader -> Flux.generate(sink -> {
+                            try {
+                                Article article = reader.next();
+                                if (article == null) {
+                                    sink.complete();
+                                } else {
+                                    sink.next(article);
+                                }
+                            } catch (IOException e) {
+                                sink.error(e);
+                            }
+                        }),
+                        StreamingMapperBase::closeQuietly)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Drains a reader into a list, for callers that already hold the whole response.
+     */
+    protected static List<Article> readAll(ArticleReader reader) throws IOException {
+        List<Article> articles = new ArrayList<>();
+        for (Article article = reader.next(); article != null; article = reader.next()) {
+            articles.add(article);
+        }
+        return articles;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // Closing only cancels the remaining body, nothing left to recover
+        }
+    }
+}
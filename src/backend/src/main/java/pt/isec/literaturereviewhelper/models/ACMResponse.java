@@ -1,5 +1,6 @@
 package pt.isec.literaturereviewhelper.models;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
@@ -30,6 +31,7 @@ public class ACMResponse {
         @JsonProperty("published-online")
         private PublishedDate publishedOnline;
 
+        @JsonAlias("author")
         private List<Author> authors;
 
         @JsonProperty("container-title")
@@ -38,6 +40,9 @@ public class ACMResponse {
         private String type;
         private List<Map<String, String>> link;
 
+        @JsonProperty("DOI")
+        private String doi;
+
         public List<String> getTitle() { return title; }
         public List<Author> getAuthors() { return authors; }
         public List<String> getContainerTitle() { return containerTitle; }
@@ -45,6 +50,7 @@ public class ACMResponse {
         public List<Map<String, String>> getLink() { return link; }
         public PublishedDate getPublishedPrint() { return publishedPrint; }
         public PublishedDate getPublishedOnline() { return publishedOnline; }
+        public String getDoi() { return doi; }
 
         public void setTitle(List<String> strings) { this.title = strings; }
         public void setType(String type) { this.type = type; }
@@ -53,6 +59,7 @@ public class ACMResponse {
         public void setPublishedPrint(PublishedDate publishedPrint) { this.publishedPrint = publishedPrint; }
         public void setPublishedOnline(PublishedDate publishedOnline) { this.publishedOnline = publishedOnline; }
         public void setLink(List<Map<String, String>> link) { this.link = link; }
+        public void setDoi(String doi) { this.doi = doi; }
     }
 
     public record Author(String given, String family) {}
@@ -1,11 +1,54 @@
 package pt.isec.literaturereviewhelper.models;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.validation.constraints.NotNull;
+import pt.isec.literaturereviewhelper.commons.TextNormalizer;
 
+/**
+ * A search result, as mapped from any engine.
+ * <p>
+ * The {@link #doi()} is {@link TextNormalizer#normalizeDoi(String) normalized} by the mappers, and empty when the
+ * engine gave none.
+ * <p>
+ * {@link #sources()} lists every engine that returned the article: only its {@link #source()} unless copies from
+ * several engines were merged into it.
+ * <p>
+ * The {@link #normalized()} view is derived from the other fields when the article is created, so filters and
+ * duplicate detection share one normalization per article. It is never serialized and is rebuilt when an article
+ * is read back.
+ */
 public record Article(String title, String publicationYear, String venue, String venueType, List<String> authors, String link,
-                      Engines source) {
+                      Engines source, String doi, Set<Engines> sources, @JsonIgnore Normalized normalized) {
+
+    public Article {
+        if (doi == null) {
+            doi = "";
+        }
+        if (sources == null || sources.isEmpty()) {
+            sources = source == null ? Set.of() : Set.of(source);
+        } else {
+            sources = Collections.unmodifiableSet(EnumSet.copyOf(sources));
+        }
+        if (normalized == null) {
+            normalized = Normalized.of(title, venue, authors);
+        }
+    }
+
+    public Article(String title, String publicationYear, String venue, String venueType, List<String> authors,
+                   String link, Engines source) {
+        this(title, publicationYear, venue, venueType, authors, link, source, "");
+    }
+
+    public Article(String title, String publicationYear, String venue, String venueType, List<String> authors,
+                   String link, Engines source, String doi) {
+        this(title, publicationYear, venue, venueType, authors, link, source, doi, null, null);
+    }
 
     @Override
     public @NotNull String toString() {
@@ -19,4 +62,20 @@ public record Article(String title, String publicationYear, String venue, String
                 "\tsource='" + source + "'\n" +
                 "}\n";
     }
+
+    /**
+     * Title, venue and authors of an article, normalized with {@link TextNormalizer#normalize(String)}, and the
+     * {@link TextNormalizer#fingerprint(CharSequence) fingerprint} of the normalized title.
+     * Missing fields normalize to empty text.
+     */
+    public record Normalized(String title, String venue, List<String> authors, long titleFingerprint) {
+        public Normalized(String title, String venue, List<String> authors) {
+            this(title, venue, authors, TextNormalizer.fingerprint(title));
+        }
+
+        static Normalized of(String title, String venue, List<String> authors) {
+            return new Normalized(TextNormalizer.normalize(title), TextNormalizer.normalize(venue),
+                    authors == null ? List.of() : authors.stream().map(TextNormalizer::normalize).toList());
+        }
+    }
 }
@@ -29,6 +29,9 @@ public class ArxivResponse {
         @XmlElement(name = "author", namespace = "http://www.w3.org/2005/Atom")
         private List<Author> authors;
 
+        @XmlElement(name = "doi", namespace = "http://arxiv.org/schemas/atom")
+        private String doi;
+
         // Getters & setters
         public String getId() { return id; }
         public void setId(String id) { this.id = id; }
@@ -41,6 +44,9 @@ public class ArxivResponse {
 
         public List<Author> getAuthors() { return authors; }
         public void setAuthors(List<Author> authors) { this.authors = authors; }
+
+        public String getDoi() { return doi; }
+        public void setDoi(String doi) { this.doi = doi; }
     }
 
     // ---------------- AUTHOR ----------------
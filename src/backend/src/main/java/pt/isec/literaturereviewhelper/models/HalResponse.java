@@ -24,6 +24,7 @@ public class HalResponse {
         private String publisher = "";
         private String type = "";
         private String url = "";
+        private String doi = "";
 
         public String getTitle() {
             return title;
@@ -81,6 +82,14 @@ public class HalResponse {
             this.url = url;
         }
 
+        public String getDoi() {
+            return doi;
+        }
+
+        public void setDoi(String doi) {
+            this.doi = doi;
+        }
+
         public String computeVenue() {
             if (journal != null && !journal.isBlank()) return journal;
             if (booktitle != null && !booktitle.isBlank()) return booktitle;
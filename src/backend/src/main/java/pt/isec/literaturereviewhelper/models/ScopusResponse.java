@@ -45,6 +45,9 @@ public class ScopusResponse {
         @JsonProperty("link")
         private List<ScopusLink> links;
 
+        @JsonProperty("prism:doi")
+        private String doi;
+
         public String getTitle() { return title; }
 
         public void setTitle(String title) { this.title = title; }
@@ -72,6 +75,10 @@ public class ScopusResponse {
         public List<ScopusLink> getLinks() { return links; }
 
         public void setLinks(List<ScopusLink> links) { this.links = links; }
+
+        public String getDoi() { return doi; }
+
+        public void setDoi(String doi) { this.doi = doi; }
     }
 
     public static class ScopusLink {
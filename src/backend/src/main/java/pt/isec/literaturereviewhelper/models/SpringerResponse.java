@@ -1,5 +1,7 @@
 package pt.isec.literaturereviewhelper.models;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+
 import java.util.List;
 
 public class SpringerResponse {
@@ -20,6 +22,7 @@ public class SpringerResponse {
         private String contentType;
         private List<Creator> creators;
         private List<Url> url;
+        private String doi;
 
         public String getTitle() { return title; }
         public void setTitle(String title) { this.title = title; }
@@ -38,9 +41,13 @@ public class SpringerResponse {
 
         public List<Url> getUrl() { return url; }
         public void setUrl(List<Url> url) { this.url = url; }
+
+        public String getDoi() { return doi; }
+        public void setDoi(String doi) { this.doi = doi; }
     }
 
     public static class Creator {
+        @JsonAlias("creator")
         private String name;
 
         public String getName() { return name; }
@@ -0,0 +1,118 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Circuit breaker guarding the calls to one upstream provider.
+ * <p>
+ * The circuit opens after {@code failureThreshold} consecutive failures and then rejects calls right away.
+ * Once {@code openDuration} has passed it becomes half-open and lets a single probe through: a successful
+ * probe closes the circuit, a failed one opens it again for another period.
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * @param name Name of the guarded provider, used in error messages
+     * @param failureThreshold Consecutive failures that open the circuit
+     * @param openDuration How long the circuit stays open before a probe is allowed
+     */
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoTime) {
+        if (failureThreshold < 1 || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("Circuit breakers need a positive failure threshold and open duration");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Runs a call through the breaker. Errors matching {@code isFailure} count against the provider; any other
+     * outcome shows the provider is answering and counts as a success.
+     * @param call Upstream call, subscribed only if the circuit lets it through
+     * @param isFailure Tells which errors mean the provider is unhealthy
+     * @return the call, or a {@link CircuitOpenException} when the circuit rejects it
+     */
+    public <T> Mono<T> protect(Mono<T> call, Predicate<Throwable> isFailure) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new CircuitOpenException(name));
+            }
+            return call
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(error -> {
+                        if (isFailure.test(error)) {
+                            onFailure();
+                        } else {
+                            onSuccess();
+                        }
+                    })
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    /**
+     * Returns the current state, moving an expired open circuit to half-open.
+     * @return the circuit state
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoTime.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        return state;
+    }
+
+    synchronized boolean tryAcquire() {
+        return switch (getState()) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoTime.getAsLong();
+            probeInFlight = false;
+        }
+    }
+
+    private synchronized void onCancel() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+
+/**
+ * JVM-wide circuit breakers, one per engine, so every search learns at once that a provider is down.
+ * Configured through {@code upstream.circuit-breaker.failure-threshold} and {@code .open-duration}.
+ */
+@Component
+public class CircuitBreakerRegistry {
+    static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final Map<Engines, CircuitBreaker> breakers = new EnumMap<>(Engines.class);
+
+    @Autowired
+    public CircuitBreakerRegistry(Environment environment) {
+        this(environment.getProperty("upstream.circuit-breaker.failure-threshold", Integer.class,
+                        DEFAULT_FAILURE_THRESHOLD),
+                DurationStyle.detectAndParse(environment.getProperty("upstream.circuit-breaker.open-duration",
+                        DEFAULT_OPEN_DURATION.toSeconds() + "s")));
+    }
+
+    private CircuitBreakerRegistry(int failureThreshold, Duration openDuration) {
+        for (Engines engine : Engines.values()) {
+            breakers.put(engine, new CircuitBreaker(engine.name(), failureThreshold, openDuration));
+        }
+    }
+
+    /**
+     * Creates a registry with the default thresholds, for engines built outside the Spring context.
+     * @return a registry with default settings
+     */
+    public static CircuitBreakerRegistry withDefaults() {
+        return new CircuitBreakerRegistry(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    /**
+     * Returns the circuit breaker of an engine.
+     * @param engine Engine whose provider is being called
+     * @return the engine's circuit breaker
+     */
+    public CircuitBreaker get(Engines engine) {
+        return breakers.get(engine);
+    }
+
+    /**
+     * Returns the current state of every engine's circuit.
+     * @return circuit state by engine
+     */
+    public Map<Engines, CircuitBreaker.State> getStates() {
+        Map<Engines, CircuitBreaker.State> states = new EnumMap<>(Engines.class);
+        breakers.forEach((engine, breaker) -> states.put(engine, breaker.getState()));
+        return Collections.unmodifiableMap(states);
+    }
+}
@@ -0,0 +1,10 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+/**
+ * Raised instead of calling an upstream API whose circuit breaker is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+    public CircuitOpenException(String name) {
+        super("Circuit breaker for " + name + " is open, skipping the upstream call");
+    }
+}
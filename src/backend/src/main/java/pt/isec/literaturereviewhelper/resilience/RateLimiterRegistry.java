@@ -0,0 +1,58 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * JVM-wide rate limiters, one per engine, so concurrent searches share each provider's allowance.
+ * Limits are read from {@code upstream.rate-limit.<engine>.permits}, {@code .period} and {@code .burst};
+ * engines without configured limits are not throttled.
+ */
+@Component
+public class RateLimiterRegistry {
+    private final Map<Engines, TokenBucketRateLimiter> limiters = new EnumMap<>(Engines.class);
+
+    @Autowired
+    public RateLimiterRegistry(Environment environment) {
+        for (Engines engine : Engines.values()) {
+            String prefix = "upstream.rate-limit." + engine.name().toLowerCase() + ".";
+            Integer permits = environment.getProperty(prefix + "permits", Integer.class);
+            if (permits != null) {
+                Duration period = DurationStyle.detectAndParse(environment.getProperty(prefix + "period", "1s"));
+                int burst = environment.getProperty(prefix + "burst", Integer.class, 1);
+                limiters.put(engine, new TokenBucketRateLimiter(permits, period, burst));
+            }
+        }
+    }
+
+    private RateLimiterRegistry() {
+    }
+
+    /**
+     * Creates a registry that never throttles.
+     * @return a registry without limits
+     */
+    public static RateLimiterRegistry unlimited() {
+        return new RateLimiterRegistry();
+    }
+
+    /**
+     * Waits for a permit to call the given engine's upstream API.
+     * @param engine Engine about to issue a request
+     * @return a Mono completing when the request may be sent
+     */
+    public Mono<Void> acquire(Engines engine) {
+        TokenBucketRateLimiter limiter = limiters.get(engine);
+        return limiter == null ? Mono.empty() : limiter.acquire();
+    }
+}
@@ -0,0 +1,64 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking token bucket. Permits are handed out at a steady rate, with up to {@code burst} of them
+ * available at once after an idle period. Callers never block a thread: {@link #acquire()} completes
+ * once the caller's permit becomes available.
+ * <p>
+ * Implemented as a generic cell rate algorithm, which keeps a single "theoretical arrival time"
+ * instead of a token count, so every reservation is O(1) and needs no background refill.
+ */
+public class TokenBucketRateLimiter {
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoTime;
+    private long theoreticalArrival = Long.MIN_VALUE;
+
+    /**
+     * @param permits Number of permits granted per period
+     * @param period Period over which the permits are spread
+     * @param burst Maximum number of permits that may be taken back to back
+     */
+    public TokenBucketRateLimiter(int permits, Duration period, int burst) {
+        this(permits, period, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int permits, Duration period, int burst, LongSupplier nanoTime) {
+        if (permits < 1 || burst < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limits need positive permits, burst and period");
+        }
+        this.intervalNanos = period.toNanos() / permits;
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Waits for a permit without blocking.
+     * @return a Mono completing when the caller may issue its request
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /**
+     * Reserves the next permit.
+     * @return how long the caller has to wait before using it, in nanoseconds
+     */
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        if (theoreticalArrival == Long.MIN_VALUE || theoreticalArrival < now) {
+            theoreticalArrival = now;
+        }
+        long allowedAt = theoreticalArrival - burstToleranceNanos;
+        theoreticalArrival += intervalNanos;
+        return Math.max(0, allowedAt - now);
+    }
+}
@@ -0,0 +1,25 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the circuit state of every engine under the {@code upstream} health component.
+ * An open circuit only degrades the searches on that provider, so the component itself stays UP.
+ */
+@Component
+public class UpstreamHealthIndicator implements HealthIndicator {
+    private final CircuitBreakerRegistry circuitBreakers;
+
+    public UpstreamHealthIndicator(CircuitBreakerRegistry circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = Health.up();
+        circuitBreakers.getStates().forEach((engine, state) -> health.withDetail(engine.name(), state.name()));
+        return health.build();
+    }
+}
@@ -8,6 +8,7 @@ import pt.isec.literaturereviewhelper.interfaces.ISearchEngine;
 import pt.isec.literaturereviewhelper.interfaces.ISearchEngineFactory;
 import pt.isec.literaturereviewhelper.models.Engines;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -32,4 +33,17 @@ public class ApiService implements IApiService {
         ISearchEngine searchEngine = factory.createSearchEngine(engine);
         return searchEngine.search(params);
     }
+
+    /**
+     * Performs a search using the specified engine, emitting results page by page as they arrive
+     *
+     * @param engine The search engine to use (SPRINGER, HAL, ACM)
+     * @param params Map of search parameters
+     * @return Flux with one element per page (filtered articles and accumulated statistics)
+     */
+    @Override
+    public Flux<SearchResultDto> searchIncrementally(Engines engine, Map<String, String> params) {
+        ISearchEngine searchEngine = factory.createSearchEngine(engine);
+        return searchEngine.searchIncrementally(params);
+    }
 }
\ No newline at end of file
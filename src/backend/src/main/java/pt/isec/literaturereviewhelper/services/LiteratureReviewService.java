@@ -3,18 +3,25 @@ package pt.isec.literaturereviewhelper.services;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.stereotype.Service;
 import pt.isec.literaturereviewhelper.commons.Params;
+import pt.isec.literaturereviewhelper.dtos.EngineStatusDto;
+import pt.isec.literaturereviewhelper.dtos.SearchEventDto;
+import pt.isec.literaturereviewhelper.dtos.SearchProgressDto;
 import pt.isec.literaturereviewhelper.dtos.SearchResponseDto;
+import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
 import pt.isec.literaturereviewhelper.interfaces.IApiService;
 import pt.isec.literaturereviewhelper.interfaces.ILiteratureReviewService;
 import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 import reactor.core.publisher.Flux;
+import pt.isec.literaturereviewhelper.filters.DuplicateMerger;
 import pt.isec.literaturereviewhelper.filters.DuplicateResultFilter;
+import pt.isec.literaturereviewhelper.filters.NearDuplicateResultFilter;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -32,40 +39,128 @@ public class LiteratureReviewService implements ILiteratureReviewService {
         String query = allParams.getOrDefault("q", "");
 
         List<Engines> sources = parseSources(sourceStr);
+        double nearDuplicateThreshold = parseNearDuplicateThreshold(allParams.get(Params.NEAR_DUPLICATE_THRESHOLD));
         return Flux.fromIterable(sources)
                 .flatMap(engine -> {
+                    Map<String, String> engineParams = new HashMap<>(allParams);
                     var key = apiKeysByEngine.get(engine);
                     if (key != null) {
-                        allParams.put(Params.API_KEY, key);
+                        engineParams.put(Params.API_KEY, key);
                     }
 
-                    return apiService.search(engine, allParams)
+                    return apiService.search(engine, engineParams)
                         .map(searchResultDto -> Map.entry(engine, searchResultDto));})
                         .collectList()
                         .map(listOfEngines -> {
                             Map<Engines, Integer> articlesByEngine = new EnumMap<>(Engines.class);
                             Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> filterImpactByEngine = new EnumMap<>(Engines.class);
+                            Map<Engines, EngineStatusDto> statusByEngine = new EnumMap<>(Engines.class);
                             List<Article> allArticles = new ArrayList<>();
                             int totalDropped = 0;
                             for (var entry : listOfEngines) {
                                 articlesByEngine.put(entry.getKey(), entry.getValue().getArticles().size());
                                 filterImpactByEngine.put(entry.getKey(), entry.getValue().getStatistics());
-                                allArticles.addAll(entry.getValue().getArticles());
-                                Map<String, Map<IResultFilter.Statistic, Integer>> stats = entry.getValue().getStatistics();
-                                if (stats != null && stats.containsKey(DuplicateResultFilter.class.getSimpleName())) {
-                                    int duplicates = stats.get(DuplicateResultFilter.class.getSimpleName()).getOrDefault(IResultFilter.Statistic.DROPPED, 0);
-                                    totalDropped += duplicates;
+                                if (entry.getValue().getStatus() != null) {
+                                    statusByEngine.put(entry.getKey(), entry.getValue().getStatus());
                                 }
+                                allArticles.addAll(entry.getValue().getArticles());
+                                totalDropped += duplicatesDropped(entry.getValue().getStatistics());
                             }
 
-                            DuplicateResultFilter filter = new DuplicateResultFilter();
-                            List<Article> filteredArticles = filter.filter(allArticles);
-                            totalDropped += filter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED);
+                            DuplicateMerger merger = new DuplicateMerger();
+                            List<Article> filteredArticles = merger.filter(allArticles);
+                            totalDropped += merger.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED);
+
+                            NearDuplicateResultFilter nearFilter = new NearDuplicateResultFilter(nearDuplicateThreshold);
+                            filteredArticles = nearFilter.filter(filteredArticles);
+                            int nearDropped = nearFilter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED);
 
-                            return new SearchResponseDto(query, filteredArticles.size(), articlesByEngine, filteredArticles, totalDropped, filterImpactByEngine);
+                            return new SearchResponseDto(query, filteredArticles.size(), articlesByEngine, filteredArticles, totalDropped, nearDropped, filterImpactByEngine, statusByEngine);
                         });
     }
 
+    @Override
+    public Flux<SearchEventDto> streamLiteratureSearch(Map<String, String> allParams, Map<Engines, String> apiKeysByEngine) {
+        String query = allParams.getOrDefault("q", "");
+        List<Engines> sources = parseSources(allParams.get("source"));
+        double nearDuplicateThreshold = parseNearDuplicateThreshold(allParams.get(Params.NEAR_DUPLICATE_THRESHOLD));
+
+        return Flux.defer(() -> {
+            SearchStream stream = new SearchStream(nearDuplicateThreshold);
+            return Flux.fromIterable(sources)
+                    .flatMap(engine -> {
+                        Map<String, String> engineParams = new HashMap<>(allParams);
+                        var key = apiKeysByEngine.get(engine);
+                        if (key != null) {
+                            engineParams.put(Params.API_KEY, key);
+                        }
+
+                        return apiService.searchIncrementally(engine, engineParams)
+                                .map(page -> Map.entry(engine, page));
+                    })
+                    .concatMapIterable(entry -> stream.accept(entry.getKey(), entry.getValue()))
+                    .concatWith(Mono.fromSupplier(() -> SearchEventDto.summary(stream.summary(query))));
+        });
+    }
+
+    /**
+     * Returns how many duplicates an engine's own DuplicateResultFilter dropped.
+     */
+    private static int duplicatesDropped(Map<String, Map<IResultFilter.Statistic, Integer>> stats) {
+        if (stats != null && stats.containsKey(DuplicateResultFilter.class.getSimpleName())) {
+            return stats.get(DuplicateResultFilter.class.getSimpleName()).getOrDefault(IResultFilter.Statistic.DROPPED, 0);
+        }
+        return 0;
+    }
+
+    /**
+     * State of a single streamed search. Pages are handed over one at a time, so no synchronization is needed.
+     * Articles are emitted as soon as their page arrives, so later copies are dropped rather than merged.
+     */
+    private static final class SearchStream {
+        private final DuplicateResultFilter crossEngineFilter = new DuplicateResultFilter();
+        private final NearDuplicateResultFilter nearDuplicateFilter;
+        private final Map<Engines, Integer> articlesByEngine = new EnumMap<>(Engines.class);
+        private final Map<Engines, Integer> pagesByEngine = new EnumMap<>(Engines.class);
+        private final Map<Engines, Map<String, Map<IResultFilter.Statistic, Integer>>> filterImpactByEngine = new EnumMap<>(Engines.class);
+        private final Map<Engines, EngineStatusDto> statusByEngine = new EnumMap<>(Engines.class);
+        private int totalArticles;
+
+        SearchStream(double nearDuplicateThreshold) {
+            this.nearDuplicateFilter = new NearDuplicateResultFilter(nearDuplicateThreshold);
+        }
+
+        List<SearchEventDto> accept(Engines engine, SearchResultDto page) {
+            int articles = articlesByEngine.merge(engine, page.getArticles().size(), Integer::sum);
+            int pages = pagesByEngine.merge(engine, 1, Integer::sum);
+            filterImpactByEngine.put(engine, page.getStatistics());
+            if (page.getStatus() != null) {
+                statusByEngine.put(engine, page.getStatus());
+            }
+
+            List<Article> newArticles = nearDuplicateFilter.filter(crossEngineFilter.filter(page.getArticles()));
+            totalArticles += newArticles.size();
+
+            List<SearchEventDto> events = new ArrayList<>(newArticles.size() + 1);
+            newArticles.forEach(article -> events.add(SearchEventDto.article(article)));
+            events.add(SearchEventDto.progress(new SearchProgressDto(engine, pages, articles)));
+            return events;
+        }
+
+        SearchResponseDto summary(String query) {
+            int totalDropped = filterImpactByEngine.values().stream()
+                    .mapToInt(LiteratureReviewService::duplicatesDropped)
+                    .sum();
+            int nearDropped = 0;
+            if (!pagesByEngine.isEmpty()) {
+                totalDropped += crossEngineFilter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED);
+                nearDropped = nearDuplicateFilter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED);
+            }
+
+            return new SearchResponseDto(query, totalArticles, articlesByEngine, List.of(), totalDropped, nearDropped, filterImpactByEngine, statusByEngine);
+        }
+    }
+
     /**
      * Parses the "source" parameter and converts it into a list of Engines enums.
      *
@@ -92,4 +187,27 @@ public class LiteratureReviewService implements ILiteratureReviewService {
                     }
                 }).toList();
     }
+
+    /**
+     * Parses the "near_duplicate_threshold" parameter, the similarity from which titles are near-duplicates.
+     *
+     * @param thresholdStr the threshold, or null to use the default
+     * @return the threshold to use for the search
+     * @throws IllegalArgumentException if the threshold is not a number greater than 0 and at most 1
+     */
+    private double parseNearDuplicateThreshold(String thresholdStr) {
+        if (thresholdStr == null || thresholdStr.isBlank()) {
+            return NearDuplicateResultFilter.DEFAULT_THRESHOLD;
+        }
+        try {
+            double threshold = Double.parseDouble(thresholdStr.trim());
+            if (threshold > 0 && threshold <= 1) {
+                return threshold;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Parameter '" + Params.NEAR_DUPLICATE_THRESHOLD
+                + "' must be a number greater than 0 and at most 1");
+    }
 }
@@ -0,0 +1,154 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.dns.DnsCache;
+import io.netty.resolver.dns.DnsCacheEntry;
+
+/**
+ * DNS cache bounded in the number of host names it holds, where each host expires after the TTL of its records.
+ * <p>
+ * Record TTLs are clamped between a minimum and a maximum; failures are kept for the negative TTL, and only when no
+ * addresses are cached for the host, so a nameserver timing out cannot evict what another one answered. Addresses
+ * learned later for a cached host join its entry without extending it, so no address outlives its own record.
+ */
+public class BoundedDnsCache implements DnsCache {
+    private final Cache<String, Entries> cache;
+    private final Ticker ticker;
+    private final long minTtlSeconds;
+    private final long maxTtlSeconds;
+    private final Duration negativeTtl;
+
+    /**
+     * @param maxHosts Maximum number of host names held
+     * @param minTtl Lower bound applied to record TTLs
+     * @param maxTtl Upper bound applied to record TTLs
+     * @param negativeTtl How long failed lookups are remembered, zero to not remember them
+     */
+    public BoundedDnsCache(long maxHosts, Duration minTtl, Duration maxTtl, Duration negativeTtl) {
+        this(maxHosts, minTtl, maxTtl, negativeTtl, Ticker.systemTicker());
+    }
+
+    BoundedDnsCache(long maxHosts, Duration minTtl, Duration maxTtl, Duration negativeTtl, Ticker ticker) {
+        this.minTtlSeconds = minTtl.toSeconds();
+        this.maxTtlSeconds = maxTtl.toSeconds();
+        this.negativeTtl = negativeTtl;
+        this.ticker = ticker;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxHosts)
+                .expireAfter(new Expiry<String, Entries>() {
+                    @Override
+                    public long expireAfterCreate(String hostname, Entries entries, long currentTime) {
+                        return Math.max(0, entries.expiresAt() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String hostname, Entries entries, long currentTime,
+                                                  long currentDuration) {
+                        return Math.max(0, entries.expiresAt() - currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String hostname, Entries entries, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public boolean clear(String hostname) {
+        return cache.asMap().remove(hostname) != null;
+    }
+
+    @Override
+    public List<? extends DnsCacheEntry> get(String hostname, DnsRecord[] additionals) {
+        if (hasAdditionals(additionals)) {
+            return null;
+        }
+        Entries entries = cache.getIfPresent(hostname);
+        return entries == null ? null : entries.entries();
+    }
+
+    @Override
+    public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl,
+                               EventLoop loop) {
+        Entry entry = new Entry(address, null);
+        if (hasAdditionals(additionals)) {
+            return entry;
+        }
+
+        Duration ttl = Duration.ofSeconds(Math.max(minTtlSeconds, Math.min(maxTtlSeconds, originalTtl)));
+        if (ttl.isZero()) {
+            return entry;
+        }
+        long expiresAt = ticker.read() + ttl.toNanos();
+        cache.asMap().compute(hostname, (key, current) -> {
+            if (current == null || current.isNegative()) {
+                return new Entries(List.of(entry), expiresAt);
+            }
+            if (current.entries().stream().anyMatch(e -> address.equals(e.address()))) {
+                return current;
+            }
+            List<Entry> merged = new ArrayList<>(current.entries());
+            merged.add(entry);
+            return new Entries(List.copyOf(merged), Math.min(expiresAt, current.expiresAt()));
+        });
+        return entry;
+    }
+
+    @Override
+    public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+        Entry entry = new Entry(null, cause);
+        if (hasAdditionals(additionals) || negativeTtl.isZero()) {
+            return entry;
+        }
+
+        cache.asMap().compute(hostname, (key, current) ->
+                current == null || current.isNegative()
+                        ? new Entries(List.of(entry), ticker.read() + negativeTtl.toNanos()) : current);
+        return entry;
+    }
+
+    /**
+     * Returns the number of host names currently held.
+     * @return approximate number of cached host names
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static boolean hasAdditionals(DnsRecord[] additionals) {
+        return additionals != null && additionals.length > 0;
+    }
+
+    private record Entry(InetAddress address, Throwable cause) implements DnsCacheEntry {
+    }
+
+    /**
+     * The cached entries of a host, expiring at the given {@link Ticker} time.
+     */
+    private record Entries(List<Entry> entries, long expiresAt) {
+        boolean isNegative() {
+            return entries.get(0).cause() != null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.HostsFileEntriesResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.InetNameResolver;
+import io.netty.resolver.dns.DnsCacheEntry;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.util.NetUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Name resolver that answers from the hosts file or the shared cache when it can, and otherwise sends the query to
+ * every nameserver at once, completing with the first answer.
+ */
+class RacingNameResolver extends InetNameResolver {
+    private static final DnsRecord[] NO_ADDITIONALS = new DnsRecord[0];
+
+    private final List<DnsNameResolver> resolvers;
+    private final HostsFileEntriesResolver hostsFile;
+    private final ResolvedAddressTypes addressTypes;
+    private final BoundedDnsCache cache;
+    private final UpstreamDnsResolver.Listener listener;
+
+    RacingNameResolver(EventExecutor executor, List<DnsNameResolver> resolvers, HostsFileEntriesResolver hostsFile,
+                       ResolvedAddressTypes addressTypes, BoundedDnsCache cache, UpstreamDnsResolver.Listener listener) {
+        super(executor);
+        this.resolvers = resolvers;
+        this.hostsFile = hostsFile;
+        this.addressTypes = addressTypes;
+        this.cache = cache;
+        this.listener = listener;
+    }
+
+    @Override
+    protected void doResolve(String inetHost, Promise<InetAddress> promise) throws Exception {
+        resolve(inetHost, promise, addresses -> addresses.get(0), resolver -> resolver.resolve(inetHost));
+    }
+
+    @Override
+    protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) throws Exception {
+        resolve(inetHost, promise, addresses -> addresses, resolver -> resolver.resolveAll(inetHost));
+    }
+
+    /**
+     * Resolves a host into the promise.
+     * @param fromAddresses Turns known addresses into the promised result
+     * @param query Issues the query to one nameserver
+     */
+    private <T> void resolve(String inetHost, Promise<T> promise, Function<List<InetAddress>, T> fromAddresses,
+                             Function<DnsNameResolver, Future<T>> query) throws Exception {
+        long start = System.nanoTime();
+
+        byte[] literal = NetUtil.createByteArrayFromIpAddressString(inetHost);
+        if (literal != null) {
+            promise.setSuccess(fromAddresses.apply(List.of(InetAddress.getByAddress(inetHost, literal))));
+            return;
+        }
+
+        InetAddress fromHostsFile = hostsFile.address(inetHost, addressTypes);
+        if (fromHostsFile != null) {
+            listener.resolved(UpstreamDnsResolver.Source.HOSTS_FILE, System.nanoTime() - start, true);
+            promise.setSuccess(fromAddresses.apply(List.of(fromHostsFile)));
+            return;
+        }
+
+        List<? extends DnsCacheEntry> cached = cache.get(inetHost, NO_ADDITIONALS);
+        if (cached != null && !cached.isEmpty()) {
+            DnsCacheEntry first = cached.get(0);
+            listener.resolved(UpstreamDnsResolver.Source.CACHE, System.nanoTime() - start, first.cause() == null);
+            if (first.cause() != null) {
+                promise.setFailure(first.cause());
+            } else {
+                promise.setSuccess(fromAddresses.apply(cached.stream().map(DnsCacheEntry::address).toList()));
+            }
+            return;
+        }
+
+        promise.addListener(done -> listener.resolved(UpstreamDnsResolver.Source.NAMESERVERS,
+                System.nanoTime() - start, done.isSuccess()));
+        AtomicInteger pending = new AtomicInteger(resolvers.size());
+        for (DnsNameResolver resolver : resolvers) {
+            Future<T> answer = query.apply(resolver);
+            answer.addListener(done -> {
+                if (answer.isSuccess()) {
+                    promise.trySuccess(answer.getNow());
+                } else if (pending.decrementAndGet() == 0) {
+                    promise.tryFailure(answer.cause());
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        resolvers.forEach(DnsNameResolver::close);
+    }
+}
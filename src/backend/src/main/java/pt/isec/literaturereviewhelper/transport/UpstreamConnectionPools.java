@@ -0,0 +1,86 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import java.time.Duration;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.AddressUtils;
+
+/**
+ * Connection pools for the upstream engines: one named provider in which every engine host gets its own pool
+ * with its own limits.
+ * <p>
+ * Defaults come from {@code upstream.pool.max-connections}, {@code .pending-acquire-max-count},
+ * {@code .pending-acquire-timeout}, {@code .max-idle-time}, {@code .max-life-time} and {@code .eviction-interval}.
+ * An engine declaring {@code upstream.pool.<engine>.host} (and optionally {@code .port}) gets a pool for that host,
+ * whose {@code .max-connections} and {@code .pending-acquire-max-count} override the defaults; its other settings
+ * are the shared ones, as reactor-netty starts host pools from its own defaults. Pool utilisation,
+ * pending acquisitions and acquire latency are published under {@code reactor.netty.connection.provider.*}.
+ */
+@Component
+public class UpstreamConnectionPools implements AutoCloseable {
+    static final String PROVIDER_NAME = "upstream";
+    private static final String PREFIX = "upstream.pool.";
+
+    private final ConnectionProvider provider;
+
+    public UpstreamConnectionPools(Environment environment) {
+        int maxConnections = environment.getProperty(PREFIX + "max-connections", Integer.class, 16);
+        int pendingAcquireMaxCount = environment.getProperty(PREFIX + "pending-acquire-max-count", Integer.class, 64);
+
+        ConnectionProvider.Builder builder = shared(ConnectionProvider.builder(PROVIDER_NAME), environment)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount);
+
+        for (Engines engine : Engines.values()) {
+            String prefix = PREFIX + engine.name().toLowerCase() + ".";
+            String host = environment.getProperty(prefix + "host");
+            if (host == null) {
+                continue;
+            }
+            int port = environment.getProperty(prefix + "port", Integer.class, 443);
+            int hostMaxConnections = environment.getProperty(prefix + "max-connections", Integer.class, maxConnections);
+            int hostPendingAcquireMaxCount = environment.getProperty(prefix + "pending-acquire-max-count",
+                    Integer.class, pendingAcquireMaxCount);
+            // Keyed the way the client builds its remote addresses, so the host is matched before resolution
+            builder.forRemoteHost(AddressUtils.createUnresolved(host, port), spec -> shared(spec, environment)
+                    .maxConnections(hostMaxConnections)
+                    .pendingAcquireMaxCount(hostPendingAcquireMaxCount));
+        }
+
+        this.provider = builder.build();
+    }
+
+    /**
+     * Returns the provider to build upstream clients with.
+     * @return the shared connection provider
+     */
+    public ConnectionProvider getProvider() {
+        return provider;
+    }
+
+    @Override
+    public void close() {
+        provider.disposeLater().block(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Applies the settings every pool shares, whether the default one or a host's.
+     */
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> S shared(S spec, Environment environment) {
+        return spec
+                .pendingAcquireTimeout(duration(environment, "pending-acquire-timeout", "30s"))
+                .maxIdleTime(duration(environment, "max-idle-time", "30s"))
+                .maxLifeTime(duration(environment, "max-life-time", "5m"))
+                .evictInBackground(duration(environment, "eviction-interval", "15s"))
+                .metrics(true);
+    }
+
+    private static Duration duration(Environment environment, String name, String defaultValue) {
+        return DurationStyle.detectAndParse(environment.getProperty(PREFIX + name, defaultValue));
+    }
+}
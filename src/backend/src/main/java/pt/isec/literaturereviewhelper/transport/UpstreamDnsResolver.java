@@ -0,0 +1,214 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.HostsFileEntriesProvider;
+import io.netty.resolver.HostsFileEntriesResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.SingletonDnsServerAddressStreamProvider;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * DNS resolution for the upstream clients.
+ * <p>
+ * Queries go to {@code custom.dns.server} and every nameserver in {@code custom.dns.fallback-servers} at once, and
+ * the first answer wins. Answers are kept in a {@link BoundedDnsCache} shared by all of them, sized and bounded by
+ * {@code custom.dns.cache.max-hosts}, {@code .min-ttl}, {@code .max-ttl} and {@code .negative-ttl}. Entries of the
+ * hosts file named by {@code custom.dns.hosts-file} take precedence over both the system hosts file and DNS.
+ */
+@Component
+public class UpstreamDnsResolver implements MeterBinder, AutoCloseable {
+    private static final String PREFIX = "custom.dns.";
+    private static final int DNS_PORT = 53;
+    private static final ResolvedAddressTypes ADDRESS_TYPES = ResolvedAddressTypes.IPV4_PREFERRED;
+
+    /** Where a resolution was answered from. */
+    enum Source { HOSTS_FILE, CACHE, NAMESERVERS }
+
+    /** Notified of every completed resolution. */
+    interface Listener {
+        void resolved(Source source, long nanos, boolean success);
+    }
+
+    private final List<InetSocketAddress> nameServers;
+    private final Duration queryTimeout;
+    private final BoundedDnsCache cache;
+    private final HostsFileEntriesResolver hostsFile;
+    private final AddressResolverGroup<InetSocketAddress> resolverGroup = new RacingResolverGroup();
+    private final CompositeMeterRegistry meters = new CompositeMeterRegistry();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public UpstreamDnsResolver(Environment environment) {
+        this.nameServers = nameServers(environment);
+        this.queryTimeout = duration(environment, "query-timeout", "3s");
+        this.cache = new BoundedDnsCache(
+                environment.getProperty(PREFIX + "cache.max-hosts", Long.class, 1024L),
+                duration(environment, "cache.min-ttl", "0s"),
+                duration(environment, "cache.max-ttl", "30m"),
+                duration(environment, "cache.negative-ttl", "30s"));
+        this.hostsFile = hostsFile(environment.getProperty(PREFIX + "hosts-file"));
+
+        FunctionCounter.builder("dns.cache.gets", cacheHits, LongAdder::sum)
+                .tags("result", "hit")
+                .description("Host names resolved from the DNS cache")
+                .register(meters);
+        FunctionCounter.builder("dns.cache.gets", cacheMisses, LongAdder::sum)
+                .tags("result", "miss")
+                .description("Host names that had to be queried from the nameservers")
+                .register(meters);
+        Gauge.builder("dns.cache.size", cache, BoundedDnsCache::size)
+                .description("Host names held in the DNS cache")
+                .register(meters);
+    }
+
+    /**
+     * Returns the resolver group to install in the upstream HTTP client.
+     * @return the resolver group
+     */
+    public AddressResolverGroup<InetSocketAddress> getResolverGroup() {
+        return resolverGroup;
+    }
+
+    /**
+     * Publishes {@code dns.cache.gets} (tagged {@code result=hit|miss}), {@code dns.cache.size} and the
+     * {@code dns.resolutions} timer, tagged with the source of the answer and whether it succeeded.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        meters.add(registry);
+    }
+
+    @Override
+    public void close() {
+        resolverGroup.close();
+    }
+
+    private void resolved(Source source, long nanos, boolean success) {
+        if (source == Source.CACHE) {
+            cacheHits.increment();
+        } else if (source == Source.NAMESERVERS) {
+            cacheMisses.increment();
+        }
+        Timer.builder("dns.resolutions")
+                .tags("source", source.name().toLowerCase(Locale.ROOT), "result", success ? "success" : "failure")
+                .register(meters)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static List<InetSocketAddress> nameServers(Environment environment) {
+        List<InetSocketAddress> servers = new ArrayList<>();
+        String primary = Objects.requireNonNull(environment.getProperty(PREFIX + "server"),
+                PREFIX + "server must be set");
+        servers.add(new InetSocketAddress(primary, environment.getProperty(PREFIX + "port", Integer.class, DNS_PORT)));
+        for (String server : environment.getProperty(PREFIX + "fallback-servers", String[].class, new String[0])) {
+            if (!server.isBlank()) {
+                servers.add(parseServer(server.trim()));
+            }
+        }
+        return List.copyOf(servers);
+    }
+
+    /**
+     * Parses {@code host}, {@code host:port}, {@code ipv6} or {@code [ipv6]:port}.
+     */
+    static InetSocketAddress parseServer(String server) {
+        if (server.startsWith("[")) {
+            int end = server.indexOf(']');
+            int port = end + 1 < server.length() ? Integer.parseInt(server.substring(end + 2)) : DNS_PORT;
+            return new InetSocketAddress(server.substring(1, end), port);
+        }
+        int separator = server.indexOf(':');
+        if (separator < 0 || separator != server.lastIndexOf(':')) {
+            return new InetSocketAddress(server, DNS_PORT);
+        }
+        return new InetSocketAddress(server.substring(0, separator), Integer.parseInt(server.substring(separator + 1)));
+    }
+
+    private static HostsFileEntriesResolver hostsFile(String path) {
+        if (path == null || path.isBlank()) {
+            return HostsFileEntriesResolver.DEFAULT;
+        }
+
+        HostsFileEntriesProvider overrides;
+        try {
+            overrides = HostsFileEntriesProvider.parser().parse(new File(path), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read hosts file " + path, e);
+        }
+        return (inetHost, addressTypes) -> {
+            InetAddress address = lookup(overrides, inetHost.toLowerCase(Locale.ROOT), addressTypes);
+            return address != null ? address : HostsFileEntriesResolver.DEFAULT.address(inetHost, addressTypes);
+        };
+    }
+
+    private static InetAddress lookup(HostsFileEntriesProvider entries, String host, ResolvedAddressTypes types) {
+        Map<String, List<InetAddress>> first = types == ResolvedAddressTypes.IPV6_ONLY
+                || types == ResolvedAddressTypes.IPV6_PREFERRED ? entries.ipv6Entries() : entries.ipv4Entries();
+        Map<String, List<InetAddress>> second = first == entries.ipv4Entries() ? entries.ipv6Entries()
+                : entries.ipv4Entries();
+        List<InetAddress> addresses = first.get(host);
+        if ((addresses == null || addresses.isEmpty())
+                && types != ResolvedAddressTypes.IPV4_ONLY && types != ResolvedAddressTypes.IPV6_ONLY) {
+            addresses = second.get(host);
+        }
+        return addresses == null || addresses.isEmpty() ? null : addresses.get(0);
+    }
+
+    private static Duration duration(Environment environment, String name, String defaultValue) {
+        return DurationStyle.detectAndParse(environment.getProperty(PREFIX + name, defaultValue));
+    }
+
+    /**
+     * Creates one racing resolver per event loop, each with a DNS resolver per nameserver.
+     */
+    private final class RacingResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+        @Override
+        protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+            if (!(executor instanceof EventLoop eventLoop)) {
+                throw new IllegalStateException("Unsupported executor type: " + executor.getClass().getName());
+            }
+            List<DnsNameResolver> resolvers = nameServers.stream()
+                    .map(server -> new DnsNameResolverBuilder(eventLoop)
+                            .datagramChannelType(NioDatagramChannel.class)
+                            .nameServerProvider(new SingletonDnsServerAddressStreamProvider(server))
+                            .resolveCache(cache)
+                            .hostsFileEntriesResolver(hostsFile)
+                            .resolvedAddressTypes(ADDRESS_TYPES)
+                            .queryTimeoutMillis(queryTimeout.toMillis())
+                            .build())
+                    .toList();
+            return new RacingNameResolver(executor, resolvers, hostsFile, ADDRESS_TYPES, cache,
+                    UpstreamDnsResolver.this::resolved).asAddressResolver();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.channel.ChannelHandler;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+/**
+ * Bytes received from each upstream engine, both as they crossed the wire and as the decoders saw them once
+ * decompressed.
+ * <p>
+ * Wire bytes are counted per connection, which only knows the host it talks to; engines register their host so
+ * those bytes can be attributed to them. Bytes from hosts no engine registered are not counted.
+ */
+@Component
+public class UpstreamTransferMetrics implements MeterBinder {
+    private final ConcurrentMap<String, Engines> engineByHost = new ConcurrentHashMap<>();
+    private final Map<Engines, LongAdder> wireBytes = new EnumMap<>(Engines.class);
+    private final Map<Engines, LongAdder> decodedBytes = new EnumMap<>(Engines.class);
+
+    public UpstreamTransferMetrics() {
+        for (Engines engine : Engines.values()) {
+            wireBytes.put(engine, new LongAdder());
+            decodedBytes.put(engine, new LongAdder());
+        }
+    }
+
+    /**
+     * Attributes the traffic of a host to an engine.
+     * @param engine Engine talking to the host
+     * @param host Host name, as used in the engine's URLs
+     */
+    public void registerHost(Engines engine, String host) {
+        engineByHost.putIfAbsent(host, engine);
+    }
+
+    /**
+     * Records bytes read from a connection to the given host.
+     * @param host Host name of the connection
+     * @param bytes Number of bytes read
+     */
+    public void recordWireBytes(String host, long bytes) {
+        Engines engine = engineByHost.get(host);
+        if (engine != null) {
+            wireBytes.get(engine).add(bytes);
+        }
+    }
+
+    /**
+     * Records response body bytes handed to an engine's decoder.
+     * @param engine Engine that received the body
+     * @param bytes Number of bytes after decompression
+     */
+    public void recordDecodedBytes(Engines engine, long bytes) {
+        decodedBytes.get(engine).add(bytes);
+    }
+
+    public long getWireBytes(Engines engine) {
+        return wireBytes.get(engine).sum();
+    }
+
+    public long getDecodedBytes(Engines engine) {
+        return decodedBytes.get(engine).sum();
+    }
+
+    /**
+     * Returns how many decoded bytes each wire byte carried for an engine.
+     * @param engine Engine
+     * @return decoded bytes over wire bytes, or NaN before any traffic
+     */
+    public double getCompressionRatio(Engines engine) {
+        long wire = getWireBytes(engine);
+        return wire == 0 ? Double.NaN : (double) getDecodedBytes(engine) / wire;
+    }
+
+    /**
+     * Creates the channel handler counting the bytes read from a new connection.
+     * @param remoteAddress Address the connection is opened to
+     * @return a handler to install at the head of the connection's pipeline
+     */
+    public ChannelHandler newWireByteCounter(SocketAddress remoteAddress) {
+        String host = remoteAddress instanceof InetSocketAddress address
+                ? address.getHostString()
+                : String.valueOf(remoteAddress);
+        return new WireByteCounter(this, host);
+    }
+
+    /**
+     * Publishes {@code upstream.bytes.wire}, {@code upstream.bytes.decoded} and {@code upstream.compression.ratio},
+     * each tagged with the engine.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Engines engine : Engines.values()) {
+            String tag = engine.name().toLowerCase();
+            FunctionCounter.builder("upstream.bytes.wire", wireBytes.get(engine), LongAdder::sum)
+                    .tags("engine", tag)
+                    .baseUnit("bytes")
+                    .description("Bytes read from the engine's connections, before decompression")
+                    .register(registry);
+            FunctionCounter.builder("upstream.bytes.decoded", decodedBytes.get(engine), LongAdder::sum)
+                    .tags("engine", tag)
+                    .baseUnit("bytes")
+                    .description("Response body bytes handed to the engine's decoder, after decompression")
+                    .register(registry);
+            Gauge.builder("upstream.compression.ratio", this, metrics -> metrics.getCompressionRatio(engine))
+                    .tags("engine", tag)
+                    .description("Decoded bytes per wire byte")
+                    .register(registry);
+        }
+    }
+}
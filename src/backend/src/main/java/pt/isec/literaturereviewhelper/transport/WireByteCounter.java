@@ -0,0 +1,30 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+/**
+ * Counts the bytes read from one connection. Installed ahead of the TLS and HTTP codecs, so it sees the bytes
+ * exactly as they arrived from the socket.
+ */
+class WireByteCounter extends ChannelInboundHandlerAdapter {
+    private final UpstreamTransferMetrics metrics;
+    private final String host;
+
+    WireByteCounter(UpstreamTransferMetrics metrics, String host) {
+        this.metrics = metrics;
+        this.host = host;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof ByteBuf buffer) {
+            metrics.recordWireBytes(host, buffer.readableBytes());
+        } else if (msg instanceof ByteBufHolder holder) {
+            metrics.recordWireBytes(host, holder.content().readableBytes());
+        }
+        ctx.fireChannelRead(msg);
+    }
+}
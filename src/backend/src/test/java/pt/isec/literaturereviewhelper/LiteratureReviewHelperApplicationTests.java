@@ -3,7 +3,8 @@ package pt.isec.literaturereviewhelper;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// The disk tier of the page cache would otherwise read and write the real cache in the user's home directory
+@SpringBootTest(properties = "upstream.cache.disk.enabled=false")
 class LiteratureReviewHelperApplicationTests {
 	@Test
 	void contextLoads() {
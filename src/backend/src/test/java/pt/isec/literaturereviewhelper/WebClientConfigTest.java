@@ -0,0 +1,79 @@
+package pt.isec.literaturereviewhelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import pt.isec.literaturereviewhelper.models.Engines;
+import pt.isec.literaturereviewhelper.transport.UpstreamConnectionPools;
+import pt.isec.literaturereviewhelper.transport.UpstreamDnsResolver;
+import pt.isec.literaturereviewhelper.transport.UpstreamTransferMetrics;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+class WebClientConfigTest {
+    private static final String BODY = "{\"title\": \"Compressible upstream page\"}\n".repeat(2_000);
+
+    private final AtomicReference<List<String>> acceptEncoding = new AtomicReference<>();
+    private final UpstreamTransferMetrics transferMetrics = new UpstreamTransferMetrics();
+    private UpstreamConnectionPools connectionPools;
+    private UpstreamDnsResolver dnsResolver;
+    private DisposableServer server;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .compress(true)
+                .route(routes -> routes.get("/works", (request, response) -> {
+                    acceptEncoding.set(request.requestHeaders().getAll(HttpHeaderNames.ACCEPT_ENCODING));
+                    return response.sendString(Mono.just(BODY));
+                }))
+                .bindNow();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("custom.dns.server", "127.0.0.1")
+                .withProperty("custom.dns.port", "53");
+        connectionPools = new UpstreamConnectionPools(environment);
+        dnsResolver = new UpstreamDnsResolver(environment);
+        webClient = new WebClientConfig().webClient(transferMetrics, connectionPools, dnsResolver);
+        transferMetrics.registerHost(Engines.ACM, "127.0.0.1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPools.close();
+        dnsResolver.close();
+        server.disposeNow();
+    }
+
+    @Test
+    void testResponsesAreNegotiatedCompressedAndDecompressedTransparently() {
+        // Act
+        String body = webClient.get()
+                .uri("http://127.0.0.1:" + server.port() + "/works")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+
+        // Assert
+        assertEquals(BODY, body);
+        assertEquals(1, acceptEncoding.get().size());
+        assertTrue(acceptEncoding.get().get(0).contains("gzip"));
+        assertTrue(acceptEncoding.get().get(0).contains("deflate"));
+        long wireBytes = transferMetrics.getWireBytes(Engines.ACM);
+        assertTrue(wireBytes > 0);
+        assertTrue(wireBytes < BODY.length() / 10, "expected a compressed transfer, got " + wireBytes + " bytes");
+    }
+}
@@ -0,0 +1,162 @@
+package pt.isec.literaturereviewhelper.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+class DiskPageStoreTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testPageRoundTripsThroughDisk() throws IOException {
+        // Arrange
+        PageKey key = PageKey.of(Engines.SCOPUS, Map.of("query", "ai", "apiKey", "secret"));
+        List<Article> articles = articles("Scopus", 3);
+
+        // Act
+        try (DiskPageStore store = store(NOW, 1024 * 1024)) {
+            store.put(key, articles, NOW.plus(Duration.ofHours(1)));
+            DiskPageStore.StoredPage stored = store.get(key);
+
+            // Assert
+            assertNotNull(stored);
+            assertEquals(articles, stored.articles());
+        }
+        assertFalse(Files.readString(directory.resolve(DiskPageStore.LOG_FILE), StandardCharsets.ISO_8859_1)
+                .contains("secret"));
+    }
+
+    @Test
+    void testPagesSurviveReopening() throws IOException {
+        // Arrange
+        PageKey key = PageKey.of(Engines.ACM, Map.of("query.bibliographic", "ai"));
+        List<Article> articles = articles("ACM", 2);
+        try (DiskPageStore store = store(NOW, 1024 * 1024)) {
+            store.put(key, articles, NOW.plus(Duration.ofHours(1)));
+        }
+
+        // Act
+        try (DiskPageStore reopened = store(NOW.plus(Duration.ofMinutes(5)), 1024 * 1024)) {
+            // Assert
+            assertEquals(articles, reopened.get(key).articles());
+        }
+    }
+
+    @Test
+    void testExpiredPagesAreNotServed() throws IOException {
+        // Arrange
+        PageKey key = PageKey.of(Engines.HAL, Map.of("q", "ai"));
+        try (DiskPageStore store = store(NOW, 1024 * 1024)) {
+            store.put(key, articles("HAL", 1), NOW.plus(Duration.ofHours(1)));
+        }
+
+        // Act
+        try (DiskPageStore reopened = store(NOW.plus(Duration.ofHours(2)), 1024 * 1024)) {
+            // Assert
+            assertNull(reopened.get(key));
+        }
+    }
+
+    @Test
+    void testByteBudgetKeepsNewestPages() throws IOException {
+        // Arrange
+        long budget = 4 * 1024;
+
+        try (DiskPageStore store = store(NOW, budget)) {
+            // Act
+            for (int i = 0; i < 50; i++) {
+                store.put(PageKey.of(Engines.SPRINGER, Map.of("s", i)), articles("Page " + i, 5),
+                        NOW.plus(Duration.ofHours(1)));
+            }
+
+            // Assert
+            assertTrue(store.sizeInBytes() <= budget);
+            assertNotNull(store.get(PageKey.of(Engines.SPRINGER, Map.of("s", 49))));
+            assertNull(store.get(PageKey.of(Engines.SPRINGER, Map.of("s", 0))));
+        }
+    }
+
+    @Test
+    void testFailedCompactionLeavesTheStoreWritable() throws IOException {
+        // Arrange: the first compaction cannot replace the log
+        long budget = 4 * 1024;
+
+        try (DiskPageStore store = new DiskPageStore(directory, budget, Clock.fixed(NOW, ZoneOffset.UTC)) {
+            private boolean failed;
+
+            @Override
+            void replaceLog(Path compacted, Path logFile) throws IOException {
+                if (!failed) {
+                    failed = true;
+                    throw new IOException("Disk full");
+                }
+                super.replaceLog(compacted, logFile);
+            }
+        }) {
+            // Act
+            for (int i = 0; i < 50; i++) {
+                store.put(PageKey.of(Engines.SPRINGER, Map.of("s", i)), articles("Page " + i, 5),
+                        NOW.plus(Duration.ofHours(1)));
+            }
+
+            // Assert
+            assertTrue(store.sizeInBytes() <= budget);
+            assertNotNull(store.get(PageKey.of(Engines.SPRINGER, Map.of("s", 49))));
+        }
+    }
+
+    @Test
+    void testTornTailIsTruncatedOnOpen() throws IOException {
+        // Arrange
+        PageKey key = PageKey.of(Engines.ARXIV, Map.of("search_query", "all:ai"));
+        long validSize;
+        try (DiskPageStore store = store(NOW, 1024 * 1024)) {
+            store.put(key, articles("arXiv", 2), NOW.plus(Duration.ofHours(1)));
+            validSize = store.sizeInBytes();
+        }
+        Files.write(directory.resolve(DiskPageStore.LOG_FILE), new byte[] {0x4C, 0x52, 0x48, 0x31, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        // Act
+        try (DiskPageStore reopened = store(NOW, 1024 * 1024)) {
+            // Assert
+            assertEquals(validSize, reopened.sizeInBytes());
+            assertNotNull(reopened.get(key));
+        }
+    }
+
+    private DiskPageStore store(Instant now, long maxBytes) throws IOException {
+        return new DiskPageStore(directory, maxBytes, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static List<Article> articles(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Article(prefix + " title " + i, "2020", "Venue", "journal-article",
+                        List.of("Author " + i), "https://example.com/" + i, Engines.ACM))
+                .toList();
+    }
+}
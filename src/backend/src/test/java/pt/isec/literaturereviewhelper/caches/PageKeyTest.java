@@ -0,0 +1,34 @@
+package pt.isec.literaturereviewhelper.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+
+class PageKeyTest {
+
+    @Test
+    void testParameterOrderDoesNotAffectKey() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("query", "ai");
+        first.put("start", 0);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("start", 0);
+        second.put("query", "ai");
+
+        assertEquals(PageKey.of(Engines.SCOPUS, first), PageKey.of(Engines.SCOPUS, second));
+        assertEquals("query=ai&start=0", PageKey.of(Engines.SCOPUS, first).request());
+    }
+
+    @Test
+    void testSameRequestOnDifferentEnginesIsDistinct() {
+        Map<String, Object> params = Map.of("q", "ai");
+
+        assertNotEquals(PageKey.of(Engines.HAL, params), PageKey.of(Engines.SPRINGER, params));
+    }
+}
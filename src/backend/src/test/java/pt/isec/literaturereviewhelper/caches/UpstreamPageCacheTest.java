@@ -0,0 +1,207 @@
+package pt.isec.literaturereviewhelper.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class UpstreamPageCacheTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private UpstreamPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UpstreamPageCache(5, null, nanos::get, Runnable::run);
+    }
+
+    @Test
+    void testSecondLookupIsServedFromCache() {
+        // Arrange
+        PageKey key = PageKey.of(Engines.ACM, Map.of("query", "ai", "offset", 0));
+
+        // Act
+        List<Article> first = cache.getOrLoad(key, Duration.ofHours(1), () -> load(2)).block();
+        List<Article> second = cache.getOrLoad(key, Duration.ofHours(1), () -> load(2)).block();
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testEntriesExpireAfterTheirOwnTtl() {
+        // Arrange
+        PageKey shortLived = PageKey.of(Engines.ARXIV, Map.of("search_query", "all:ai"));
+        PageKey longLived = PageKey.of(Engines.SCOPUS, Map.of("query", "ai"));
+        cache.getOrLoad(shortLived, Duration.ofHours(1), () -> load(1)).block();
+        cache.getOrLoad(longLived, Duration.ofHours(24), () -> load(1)).block();
+
+        // Act
+        nanos.addAndGet(Duration.ofHours(2).toNanos());
+        cache.getOrLoad(shortLived, Duration.ofHours(1), () -> load(1)).block();
+        cache.getOrLoad(longLived, Duration.ofHours(24), () -> load(1)).block();
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testEvictionIsWeighedByArticleCount() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        PageKey first = PageKey.of(Engines.ACM, Map.of("offset", 0));
+        PageKey second = PageKey.of(Engines.ACM, Map.of("offset", 10));
+
+        // Act
+        cache.getOrLoad(first, Duration.ofHours(1), () -> load(4)).block();
+        cache.getOrLoad(second, Duration.ofHours(1), () -> load(4)).block();
+        cache.cleanUp();
+
+        // Assert
+        assertEquals(1.0, registry.get("cache.size").tag("cache", UpstreamPageCache.CACHE_NAME).gauge().value());
+        assertEquals(1.0, registry.get("cache.evictions").tag("cache", UpstreamPageCache.CACHE_NAME)
+                .functionCounter().count());
+    }
+
+    @Test
+    void testEmptyLoaderIsNotCached() {
+        // Arrange
+        PageKey key = PageKey.of(Engines.HAL, Map.of("q", "ai"));
+
+        // Act
+        cache.getOrLoad(key, Duration.ofHours(1), () -> {
+            loads.incrementAndGet();
+            return Mono.empty();
+        }).block();
+        cache.getOrLoad(key, Duration.ofHours(1), () -> load(1)).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testStatisticsAreExposedAsMeters() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        PageKey key = PageKey.of(Engines.SPRINGER, Map.of("q", "ai"));
+
+        // Act
+        cache.getOrLoad(key, Duration.ofHours(1), () -> load(1)).block();
+        cache.getOrLoad(key, Duration.ofHours(1), () -> load(1)).block();
+
+        // Assert
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", UpstreamPageCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", UpstreamPageCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testConcurrentLoadsOfTheSameKeyAreCoalesced() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        PageKey key = PageKey.of(Engines.SCOPUS, Map.of("query", "ai", "start", 0));
+        Sinks.One<List<Article>> upstream = Sinks.one();
+        Supplier<Mono<List<Article>>> loader = () -> {
+            loads.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        // Act
+        AtomicReference<List<Article>> first = new AtomicReference<>();
+        AtomicReference<List<Article>> second = new AtomicReference<>();
+        cache.getOrLoad(key, Duration.ofHours(1), loader).subscribe(first::set);
+        cache.getOrLoad(key, Duration.ofHours(1), loader).subscribe(second::set);
+        List<Article> page = load(1).block();
+        upstream.tryEmitValue(page);
+        List<Article> third = cache.getOrLoad(key, Duration.ofHours(1), loader).block();
+
+        // Assert
+        assertEquals(2, loads.get()); // the upstream call plus the page built by load(1)
+        assertEquals(page, first.get());
+        assertEquals(page, second.get());
+        assertEquals(page, third);
+        assertEquals(1.0, registry.get("cache.coalesced").tag("cache", UpstreamPageCache.CACHE_NAME)
+                .functionCounter().count());
+    }
+
+    @Test
+    void testFailedLoadIsNotSharedWithLaterCallers() {
+        // Arrange
+        PageKey key = PageKey.of(Engines.HAL, Map.of("q", "ai"));
+
+        // Act
+        Mono<List<Article>> failing = cache.getOrLoad(key, Duration.ofHours(1), () -> {
+            loads.incrementAndGet();
+            return Mono.error(new IllegalStateException("upstream down"));
+        });
+        assertThrows(IllegalStateException.class, failing::block);
+        List<Article> retried = cache.getOrLoad(key, Duration.ofHours(1), () -> load(1)).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1, retried.size());
+    }
+
+    @Test
+    void testDiskTierServesPagesAfterRestart(@TempDir Path directory) throws Exception {
+        // Arrange
+        PageKey key = PageKey.of(Engines.ACM, Map.of("query.bibliographic", "ai"));
+        DiskPageStore diskStore = new DiskPageStore(directory, 1024 * 1024);
+        List<Article> loaded;
+        try (UpstreamPageCache beforeRestart = new UpstreamPageCache(5, diskStore)) {
+            loaded = beforeRestart.getOrLoad(key, Duration.ofHours(1), () -> load(2)).block();
+            await(() -> diskStore.sizeInBytes() > 0);
+        }
+
+        // Act
+        List<Article> afterRestart;
+        try (UpstreamPageCache restarted = new UpstreamPageCache(5, new DiskPageStore(directory, 1024 * 1024))) {
+            afterRestart = restarted.getOrLoad(key, Duration.ofHours(1), () -> load(2)).block();
+        }
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(loaded, afterRestart);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Mono<List<Article>> load(int size) {
+        return Mono.fromSupplier(() -> {
+            int call = loads.incrementAndGet();
+            return IntStream.range(0, size)
+                    .mapToObj(i -> new Article("Title " + call + "-" + i, "2020", "Venue", "journal-article",
+                            List.of("Author"), "link", Engines.ACM))
+                    .toList();
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package pt.isec.literaturereviewhelper.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TextNormalizerTest {
+
+    @Test
+    void testNormalizeFoldsCaseAndStripsAccents() {
+        assertEquals("muller ludenscheidt h", TextNormalizer.normalize("Müller-Lüdenscheidt, H."));
+        assertEquals("conferencia iberica", TextNormalizer.normalize("CONFERÊNCIA IBÉRICA"));
+    }
+
+    @Test
+    void testNormalizeCollapsesPunctuationAndWhitespace() {
+        assertEquals("deep learning a survey", TextNormalizer.normalize("  Deep-Learning:\ta survey!! "));
+        assertEquals("c 2 0", TextNormalizer.normalize("C++ 2.0"));
+    }
+
+    @Test
+    void testHasSymbolsTellsMeaningfulSymbolsFromSeparators() {
+        assertTrue(TextNormalizer.hasSymbols("C++"));
+        assertTrue(TextNormalizer.hasSymbols("C#"));
+        assertTrue(TextNormalizer.hasSymbols("AT&T Labs"));
+        assertFalse(TextNormalizer.hasSymbols("Müller-Lüdenscheidt, H."));
+        assertFalse(TextNormalizer.hasSymbols("Proc. (IEEE/ACM): \u201cFoundations\u201d \u2013 Part I"));
+        assertFalse(TextNormalizer.hasSymbols(null));
+    }
+
+    @Test
+    void testNormalizeDoiDropsResolverPrefixesAndFoldsCase() {
+        assertEquals("10.1145/3368089.abc", TextNormalizer.normalizeDoi("https://doi.org/10.1145/3368089.ABC"));
+        assertEquals("10.1145/3368089.abc", TextNormalizer.normalizeDoi("doi:10.1145/3368089.abc "));
+        assertEquals("10.1000/182", TextNormalizer.normalizeDoi("http://dx.doi.org/10.1000/182"));
+    }
+
+    @Test
+    void testNormalizeDoiWithoutDoi() {
+        assertEquals("", TextNormalizer.normalizeDoi(null));
+        assertEquals("", TextNormalizer.normalizeDoi(""));
+        assertEquals("", TextNormalizer.normalizeDoi("not a doi"));
+    }
+
+    @Test
+    void testNormalizeMissingText() {
+        assertEquals("", TextNormalizer.normalize(null));
+        assertEquals("", TextNormalizer.normalize(""));
+        assertEquals("", TextNormalizer.normalize("?!"));
+    }
+}
@@ -6,11 +6,14 @@ import org.mockito.*;
 import org.springframework.util.Assert;
 
 import pt.isec.literaturereviewhelper.commons.RequestHeaderUtils;
+import pt.isec.literaturereviewhelper.dtos.SearchEventDto;
+import pt.isec.literaturereviewhelper.dtos.SearchProgressDto;
 import pt.isec.literaturereviewhelper.dtos.SearchResponseDto;
 import pt.isec.literaturereviewhelper.interfaces.ILiteratureReviewService;
 import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -153,4 +156,27 @@ class LiteratureSearchControllerTest {
                     .performLiteratureSearch(params, emptyKeys);
         }
     }
+
+    @Test
+    void testSearchStream_MapsEventsToServerSentEvents() {
+        Map<String, String> params = Map.of("q", "AI");
+        Map<Engines, String> emptyKeys = new EnumMap<>(Engines.class);
+        Article article = new Article("Streamed", "2024", "Venue", "journal-article", List.of("A"), "link", Engines.HAL);
+        SearchProgressDto progress = new SearchProgressDto(Engines.HAL, 1, 1);
+        SearchResponseDto summary = new SearchResponseDto("AI", 1, Map.of(Engines.HAL, 1), List.of(), 0, Map.of());
+
+        try (MockedStatic<RequestHeaderUtils> mocked = mockStatic(RequestHeaderUtils.class)) {
+            mocked.when(() -> RequestHeaderUtils.parseApiKeysHeader(null)).thenReturn(emptyKeys);
+            when(literatureReviewService.streamLiteratureSearch(params, emptyKeys)).thenReturn(Flux.just(
+                    SearchEventDto.article(article),
+                    SearchEventDto.progress(progress),
+                    SearchEventDto.summary(summary)));
+
+            StepVerifier.create(controller.searchStream(params, null))
+                    .expectNextMatches(event -> "article".equals(event.event()) && article.equals(event.data()))
+                    .expectNextMatches(event -> "progress".equals(event.event()) && progress == event.data())
+                    .expectNextMatches(event -> "summary".equals(event.event()) && summary == event.data())
+                    .verifyComplete();
+        }
+    }
 }
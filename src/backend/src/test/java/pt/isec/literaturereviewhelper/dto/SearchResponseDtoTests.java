@@ -40,5 +40,14 @@ public class SearchResponseDtoTests {
         assertEquals(articles, dto.getArticles());
         assertEquals(duplicatedResultsRemoved, dto.getDuplicatedResultsRemoved());
         assertEquals(filterImpactByEngine, dto.getFilterImpactByEngine());
+        assertEquals(0, dto.getNearDuplicatedResultsRemoved());
+    }
+
+    @Test
+    public void testSearchResponseDtoNearDuplicates() {
+        SearchResponseDto dto = new SearchResponseDto("q", 1, Map.of(), List.of(), 2, 3, Map.of(), Map.of());
+
+        assertEquals(2, dto.getDuplicatedResultsRemoved());
+        assertEquals(3, dto.getNearDuplicatedResultsRemoved());
     }
 }
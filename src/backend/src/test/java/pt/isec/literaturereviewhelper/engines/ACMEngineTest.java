@@ -118,6 +118,8 @@ class ACMEngineTest {
         assertTrue(url.contains("/works"));
         assertTrue(url.contains("query.bibliographic=machine+learning"));
         assertTrue(url.contains("rows=5"));
+        assertTrue(url.contains("select=title%2Cpublished-print%2Cpublished-online%2Cauthor%2C"));
+        assertTrue(url.contains("%2CDOI"));
     }
 
     @Test
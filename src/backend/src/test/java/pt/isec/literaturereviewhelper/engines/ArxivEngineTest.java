@@ -3,16 +3,22 @@ package pt.isec.literaturereviewhelper.engines;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import pt.isec.literaturereviewhelper.mappers.ArxivMapper;
 import pt.isec.literaturereviewhelper.models.ArxivResponse;
 import pt.isec.literaturereviewhelper.models.Article;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -27,12 +33,13 @@ class ArxivEngineTest {
     private WebClient.RequestHeadersSpec requestHeadersSpec;
     private WebClient.ResponseSpec responseSpec;
 
+    private WebClient webClient;
     private IResultMapper<ArxivResponse> mapper;
     private ArxivEngine arxivEngine;
 
     @BeforeEach
     void setUp() {
-        WebClient webClient = mock(WebClient.class);
+        webClient = mock(WebClient.class);
         requestHeadersUriSpec = mock(WebClient.RequestHeadersUriSpec.class);
         requestHeadersSpec = mock(WebClient.RequestHeadersSpec.class);
         responseSpec = mock(WebClient.ResponseSpec.class);
@@ -71,6 +78,34 @@ class ArxivEngineTest {
         assertEquals(25, p.get("max_results"));
     }
 
+    @Test
+    void testSearchStreamsFeedThroughStreamingMapper() {
+        String feed = """
+                <feed xmlns="http://www.w3.org/2005/Atom">
+                  <entry>
+                    <id>http://arxiv.org/abs/2401.00001v1</id>
+                    <published>2024-01-02T10:00:00Z</published>
+                    <title>Streamed Paper</title>
+                    <author><name>John Doe</name></author>
+                  </entry>
+                </feed>
+                """;
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(feed.getBytes(StandardCharsets.UTF_8))));
+        ArxivEngine streamingEngine = new ArxivEngine(webClient, new ArxivMapper());
+
+        SearchResultDto result = streamingEngine.search(Map.of(
+                "q", "ai",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "1"
+        )).block();
+
+        assertEquals(1, result.getArticles().size());
+        assertEquals("Streamed Paper", result.getArticles().get(0).title());
+        verify(responseSpec, never()).bodyToMono(ArxivResponse.class);
+    }
+
     @Test
     void testSearchSuccessMapsResponse() {
         Map<String, String> raw = Map.of(
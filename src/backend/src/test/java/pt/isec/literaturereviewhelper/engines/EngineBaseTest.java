@@ -1,29 +1,49 @@
 package pt.isec.literaturereviewhelper.engines;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static pt.isec.literaturereviewhelper.commons.Params.API_KEY;
 import static pt.isec.literaturereviewhelper.commons.Params.QUERY;
 import static pt.isec.literaturereviewhelper.commons.Params.ROWS;
 import static pt.isec.literaturereviewhelper.commons.Params.START;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import pt.isec.literaturereviewhelper.caches.UpstreamPageCache;
 import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
+import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
+import pt.isec.literaturereviewhelper.resilience.CircuitBreaker;
+import pt.isec.literaturereviewhelper.resilience.CircuitBreakerRegistry;
+import pt.isec.literaturereviewhelper.resilience.RateLimiterRegistry;
+import pt.isec.literaturereviewhelper.transport.UpstreamTransferMetrics;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 class EngineBaseTest {
     protected WebClient webClient;
@@ -88,12 +108,322 @@ class EngineBaseTest {
         ));
 
         // Assert
-        verify(webClient, times(1)).get();
         assertEquals(mapped, firstCall.block().getArticles());
         assertEquals(List.of(
                 new Article("Valid Data Science Paper", "2018", "Valid Journal", "journal-article",
                         List.of("John Doe"), "https://example.com/valid-ds-article", Engines.ACM)
         ), secondCall.block().getArticles());
+        verify(webClient, times(1)).get();
+    }
+
+    @Test
+    void testEnginesSharingAContextShareCachedPages() {
+        // Arrange
+        EngineContext context = EngineContext.standalone();
+        TestEngineResponse testResponse = new TestEngineResponse();
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenReturn(Mono.just(testResponse));
+        List<Article> mapped = List.of(
+                new Article("Data Science Paper", "2018", "Journal", "journal-article",
+                        List.of("John Doe"), "https://example.com/ds-article", Engines.ACM)
+        );
+        when(resultMapper.map(testResponse)).thenReturn(mapped);
+        Map<String, String> params = Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "1"
+        );
+
+        // Act
+        SearchResultDto first = new TestEngine(webClient, resultMapper, context).search(params).block();
+        SearchResultDto second = new TestEngine(webClient, resultMapper, context).search(params).block();
+
+        // Assert
+        verify(webClient, times(1)).get();
+        assertEquals(mapped, first.getArticles());
+        assertEquals(mapped, second.getArticles());
+    }
+
+    @Test
+    void testSearchUsesTheParametersGivenWhenItWasCalled() {
+        // Arrange
+        ArgumentCaptor<URI> uris = ArgumentCaptor.forClass(URI.class);
+        when(responseSpec.bodyToMono(TestEngineResponse.class))
+                .thenAnswer(invocation -> Mono.just(new TestEngineResponse()));
+        when(resultMapper.map(any())).thenReturn(List.of());
+        TestEngine engine = new TestEngine(webClient, resultMapper) {
+            @Override
+            public Map<String, Object> mapParams(Map<String, String> raw) {
+                return Map.of("query", raw.get(QUERY), "start", raw.get(START), "api_key", raw.get(API_KEY));
+            }
+        };
+        Map<String, String> params = new HashMap<>(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "3",
+                API_KEY, "own-key"
+        ));
+
+        // Act
+        Mono<SearchResultDto> result = engine.search(params);
+        params.put(API_KEY, "other-key");
+        result.block();
+
+        // Assert
+        verify(requestHeadersUriSpec, times(3)).uri(uris.capture());
+        assertTrue(uris.getAllValues().stream().allMatch(uri -> uri.toString().contains("api_key=own-key")));
+    }
+
+    @Test
+    void testPagesAreFetchedConcurrentlyAndMergedInPageOrder() {
+        // Arrange
+        TestEngineResponse page0 = new TestEngineResponse();
+        TestEngineResponse page1 = new TestEngineResponse();
+        TestEngineResponse page2 = new TestEngineResponse();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenReturn(
+                tracked(page0, Duration.ofMillis(300), inFlight, maxInFlight),
+                tracked(page1, Duration.ofMillis(100), inFlight, maxInFlight),
+                tracked(page2, Duration.ofMillis(10), inFlight, maxInFlight));
+
+        Article first = new Article("First", "2020", "Venue", "journal-article", List.of("A"), "l0", Engines.ACM);
+        Article second = new Article("Second", "2020", "Venue", "journal-article", List.of("B"), "l1", Engines.ACM);
+        Article third = new Article("Third", "2020", "Venue", "journal-article", List.of("C"), "l2", Engines.ACM);
+        when(resultMapper.map(page0)).thenReturn(List.of(first));
+        when(resultMapper.map(page1)).thenReturn(List.of(second));
+        when(resultMapper.map(page2)).thenReturn(List.of(third));
+
+        // Act
+        Mono<SearchResultDto> result = testEngine.search(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "3"
+        ));
+
+        // Assert
+        verify(webClient, never()).get();
+        assertEquals(List.of(first, second, third), result.block().getArticles());
+        assertEquals(3, maxInFlight.get());
+    }
+
+    @Test
+    void testConcurrencyIsCappedByEngineLimit() {
+        // Arrange
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenAnswer(invocation ->
+                tracked(new TestEngineResponse(), Duration.ofMillis(50), inFlight, maxInFlight));
+        when(resultMapper.map(any())).thenReturn(List.of());
+
+        // Act
+        testEngine.search(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "10"
+        )).block();
+
+        // Assert
+        verify(webClient, times(10)).get();
+        assertEquals(4, maxInFlight.get());
+    }
+
+    @Test
+    void testSearchIncrementallyEmitsFilteredPagesAsTheyArrive() {
+        // Arrange
+        TestEngineResponse slowPage = new TestEngineResponse();
+        TestEngineResponse fastPage = new TestEngineResponse();
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenReturn(
+                Mono.just(slowPage).delayElement(Duration.ofMillis(200)),
+                Mono.just(fastPage));
+
+        Article old = new Article("Old", "2010", "Venue", "journal-article", List.of("A"), "l0", Engines.ACM);
+        Article recent = new Article("Recent", "2019", "Venue", "journal-article", List.of("B"), "l1", Engines.ACM);
+        Article duplicate = new Article("recent!", "2019", "Venue", "journal-article", List.of("C"), "l2", Engines.ACM);
+        when(resultMapper.map(slowPage)).thenReturn(List.of(duplicate));
+        when(resultMapper.map(fastPage)).thenReturn(List.of(old, recent));
+
+        // Act
+        Flux<SearchResultDto> pages = testEngine.searchIncrementally(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "2",
+                "year_start", "2015"
+        ));
+
+        // Assert
+        StepVerifier.create(pages)
+                .assertNext(page -> {
+                    assertEquals(List.of(recent), page.getArticles());
+                    assertEquals(2, page.getStatistics().get("YearResultFilter").get(IResultFilter.Statistic.INPUT));
+                })
+                .assertNext(page -> {
+                    assertEquals(List.of(), page.getArticles());
+                    assertEquals(1, page.getStatistics().get("DuplicateResultFilter").get(IResultFilter.Statistic.DROPPED));
+                    assertEquals(3, page.getStatistics().get("YearResultFilter").get(IResultFilter.Statistic.INPUT));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testFailedPageIsReportedAndOtherPagesAreKept() {
+        // Arrange
+        TestEngineResponse page0 = new TestEngineResponse();
+        TestEngineResponse page2 = new TestEngineResponse();
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenReturn(
+                Mono.just(page0),
+                Mono.error(new IllegalStateException("Malformed page")),
+                Mono.just(page2));
+        Article first = new Article("First", "2020", "Venue", "journal-article", List.of("A"), "l0", Engines.ACM);
+        Article third = new Article("Third", "2020", "Venue", "journal-article", List.of("C"), "l2", Engines.ACM);
+        when(resultMapper.map(page0)).thenReturn(List.of(first));
+        when(resultMapper.map(page2)).thenReturn(List.of(third));
+
+        // Act
+        SearchResultDto result = testEngine.search(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "3"
+        )).block();
+
+        // Assert
+        verify(webClient, times(3)).get(); // not a transient error, so no retry
+        assertEquals(List.of(first, third), result.getArticles());
+        assertEquals(3, result.getStatus().getPagesRequested());
+        assertEquals(2, result.getStatus().getPagesSucceeded());
+        assertEquals(Map.of(1, "Malformed page"), result.getStatus().getFailedPages());
+        assertTrue(result.getStatus().isPartial());
+    }
+
+    @Test
+    void testTransientFailureIsRetried() {
+        // Arrange
+        TestEngineResponse page = new TestEngineResponse();
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenReturn(
+                Mono.error(WebClientResponseException.create(HttpStatus.BAD_GATEWAY.value(), "Bad Gateway",
+                        HttpHeaders.EMPTY, new byte[0], null)),
+                Mono.just(page));
+        Article article = new Article("Title", "2020", "Venue", "journal-article", List.of("A"), "l0", Engines.ACM);
+        when(resultMapper.map(page)).thenReturn(List.of(article));
+
+        // Act
+        SearchResultDto result = testEngine.search(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "1"
+        )).block();
+
+        // Assert
+        verify(webClient, times(2)).get();
+        assertEquals(List.of(article), result.getArticles());
+        assertFalse(result.getStatus().isPartial());
+    }
+
+    @Test
+    void testSearchIncrementallyReportsFailedPages() {
+        // Arrange
+        TestEngineResponse page = new TestEngineResponse();
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenReturn(
+                Mono.error(new IllegalStateException("Malformed page")),
+                Mono.just(page));
+        when(resultMapper.map(page)).thenReturn(List.of());
+
+        // Act
+        Flux<SearchResultDto> pages = testEngine.searchIncrementally(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "2"
+        ));
+
+        // Assert
+        StepVerifier.create(pages)
+                .assertNext(result -> assertEquals(Map.of(0, "Malformed page"), result.getStatus().getFailedPages()))
+                .assertNext(result -> {
+                    assertEquals(1, result.getStatus().getPagesSucceeded());
+                    assertEquals(Map.of(0, "Malformed page"), result.getStatus().getFailedPages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testOpenCircuitFailsFastWithoutCallingUpstream() {
+        // Arrange
+        CircuitBreakerRegistry circuitBreakers = new CircuitBreakerRegistry(new MockEnvironment()
+                .withProperty("upstream.circuit-breaker.failure-threshold", "1")
+                .withProperty("upstream.circuit-breaker.open-duration", "1h"));
+        EngineContext context = new EngineContext(
+                new UpstreamPageCache(UpstreamPageCache.DEFAULT_MAX_ARTICLES), RateLimiterRegistry.unlimited(),
+                circuitBreakers, new UpstreamTransferMetrics());
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenReturn(
+                Mono.error(WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null)));
+        TestEngine engine = new TestEngine(webClient, resultMapper, context);
+
+        // Act
+        SearchResultDto result = engine.search(Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "3"
+        )).block();
+
+        // Assert
+        verify(webClient, times(1)).get();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakers.get(Engines.ACM).getState());
+        assertEquals(0, result.getStatus().getPagesSucceeded());
+        assertEquals(3, result.getStatus().getFailedPages().size());
+    }
+
+    @Test
+    void testUpstreamRequestsRespectEngineRateLimit() {
+        // Arrange
+        RateLimiterRegistry rateLimiters = new RateLimiterRegistry(new MockEnvironment()
+                .withProperty("upstream.rate-limit.acm.permits", "1")
+                .withProperty("upstream.rate-limit.acm.period", "200ms"));
+        EngineContext context = new EngineContext(
+                new UpstreamPageCache(UpstreamPageCache.DEFAULT_MAX_ARTICLES), rateLimiters,
+                CircuitBreakerRegistry.withDefaults(), new UpstreamTransferMetrics());
+        when(responseSpec.bodyToMono(TestEngineResponse.class)).thenAnswer(invocation ->
+                Mono.just(new TestEngineResponse()));
+        when(resultMapper.map(any())).thenReturn(List.of());
+        Map<String, String> params = Map.of(
+                "q", "data science",
+                "start", "0",
+                "rows", "10",
+                "deep_search_limit", "3"
+        );
+        TestEngine engine = new TestEngine(webClient, resultMapper, context);
+
+        // Act
+        long started = System.nanoTime();
+        engine.search(params).block();
+        Duration throttled = Duration.ofNanos(System.nanoTime() - started);
+        started = System.nanoTime();
+        engine.search(params).block();
+        Duration cached = Duration.ofNanos(System.nanoTime() - started);
+
+        // Assert
+        verify(webClient, times(3)).get();
+        assertTrue(throttled.compareTo(Duration.ofMillis(390)) >= 0, "pages were not spaced: " + throttled);
+        assertTrue(cached.compareTo(Duration.ofMillis(200)) < 0, "cache hits were throttled: " + cached);
+    }
+
+    private static Mono<TestEngineResponse> tracked(TestEngineResponse response, Duration latency,
+                                                    AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        return Mono.delay(latency)
+                .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .map(tick -> {
+                    inFlight.decrementAndGet();
+                    return response;
+                });
     }
 
     private class TestEngine extends EngineBase<TestEngineResponse> {
@@ -104,11 +434,19 @@ class EngineBaseTest {
             super(webClient, mapper);
         }
 
+        public TestEngine(WebClient webClient, IResultMapper<TestEngineResponse> mapper, EngineContext context) {
+            super(webClient, mapper, context);
+        }
+
         @Override
         public String getEngineName() {
             return "TestEngine";
         }
         @Override
+        protected Engines getEngineType() {
+            return Engines.ACM;
+        }
+        @Override
         protected String getBaseUrl() {
             return BASE_URL;
         }
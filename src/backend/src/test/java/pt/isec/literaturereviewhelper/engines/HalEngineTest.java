@@ -3,17 +3,28 @@ package pt.isec.literaturereviewhelper.engines;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import pt.isec.literaturereviewhelper.caches.UpstreamPageCache;
 import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
+import pt.isec.literaturereviewhelper.mappers.HalMapper;
 import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+import pt.isec.literaturereviewhelper.resilience.CircuitBreakerRegistry;
+import pt.isec.literaturereviewhelper.resilience.RateLimiterRegistry;
+import pt.isec.literaturereviewhelper.transport.UpstreamTransferMetrics;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -104,6 +115,107 @@ class HalEngineTest {
         verify(mapper).map(bibtexResponse);
     }
 
+    @Test
+    void testSearchStreamsBodyThroughStreamingMapper() {
+        // Arrange
+        WebClient webClient = mock(WebClient.class);
+        WebClient.RequestHeadersSpec requestHeadersSpec = mock(WebClient.RequestHeadersSpec.class);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(any(URI.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.accept(MediaType.TEXT_PLAIN)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        String bibtex = """
+                @article{test2024,
+                  TITLE = {Machine Learning in Healthcare},
+                  YEAR = {2024}
+                }
+                """;
+        byte[] bytes = bibtex.getBytes(StandardCharsets.UTF_8);
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, 40)),
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 40, bytes.length))));
+        HalEngine streamingEngine = new HalEngine(webClient, new HalMapper());
+
+        // Act
+        SearchResultDto result = streamingEngine.search(Map.of(
+                "q", "machine learning",
+                "start", "0",
+                "rows", "10",
+                "wt", "bibtex",
+                "deep_search_limit", "1"
+        )).block();
+
+        // Assert
+        assertEquals(1, result.getArticles().size());
+        assertEquals("Machine Learning in Healthcare", result.getArticles().get(0).title());
+        verify(responseSpec, never()).bodyToMono(String.class);
+    }
+
+    @Test
+    void testStreamedBodyIsRecordedAsDecodedBytes() {
+        // Arrange
+        WebClient webClient = mock(WebClient.class);
+        WebClient.RequestHeadersSpec requestHeadersSpec = mock(WebClient.RequestHeadersSpec.class);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(any(URI.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.accept(MediaType.TEXT_PLAIN)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        byte[] bytes = "@article{a, TITLE = {Streamed}, YEAR = {2024}}".getBytes(StandardCharsets.UTF_8);
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(bytes)));
+        UpstreamTransferMetrics transferMetrics = new UpstreamTransferMetrics();
+        EngineContext context = new EngineContext(new UpstreamPageCache(UpstreamPageCache.DEFAULT_MAX_ARTICLES),
+                RateLimiterRegistry.unlimited(), CircuitBreakerRegistry.withDefaults(), transferMetrics);
+        HalEngine streamingEngine = new HalEngine(webClient, new HalMapper(), context);
+
+        // Act
+        streamingEngine.search(Map.of(
+                "q", "streamed",
+                "start", "0",
+                "rows", "10",
+                "wt", "bibtex",
+                "deep_search_limit", "1"
+        )).block();
+
+        // Assert
+        assertEquals(bytes.length, transferMetrics.getDecodedBytes(Engines.HAL));
+    }
+
+    @Test
+    void testPageOverBudgetFailsWithoutRetry() {
+        // Arrange
+        WebClient webClient = mock(WebClient.class);
+        WebClient.RequestHeadersSpec requestHeadersSpec = mock(WebClient.RequestHeadersSpec.class);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(any(URI.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.accept(MediaType.TEXT_PLAIN)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        byte[] bytes = "@article{a, TITLE = {Too large}, YEAR = {2024}}".getBytes(StandardCharsets.UTF_8);
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, 20)),
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 20, bytes.length))));
+        HalEngine budgetedEngine = new HalEngine(webClient, new HalMapper()) {
+            @Override
+            protected long getMaxPageBytes() {
+                return 32;
+            }
+        };
+
+        // Act
+        SearchResultDto result = budgetedEngine.search(Map.of(
+                "q", "too large",
+                "start", "0",
+                "rows", "10",
+                "wt", "bibtex",
+                "deep_search_limit", "1"
+        )).block();
+
+        // Assert
+        assertTrue(result.getArticles().isEmpty());
+        assertTrue(result.getStatus().getFailedPages().get(0).contains("budget of 32 bytes"));
+        verify(webClient, times(1)).get();
+    }
+
     @Test
     void testSearchBuildsCorrectUrl() {
         Map<String, String> rawParams = Map.of(
@@ -68,6 +68,7 @@ class ScopusEngineTest {
         assertEquals(25, out.get("start"));
         assertEquals(25, out.get("count"));
         assertEquals("k", out.get("apiKey"));
+        assertEquals(ScopusEngine.FIELDS, out.get("field"));
     }
 
     @Test
@@ -128,6 +129,8 @@ class ScopusEngineTest {
         assertTrue(uri.contains("start=0")); 
         assertTrue(uri.contains("count=10"));
         assertTrue(uri.contains("apiKey=abc"));
+        assertTrue(uri.contains("field=dc%3Atitle%2Cprism%3AcoverDate%2C"));
+        assertTrue(uri.contains("%2Cprism%3Adoi"));
     }
 
     @Test
@@ -11,6 +11,11 @@ import pt.isec.literaturereviewhelper.engines.HalEngine;
 import pt.isec.literaturereviewhelper.engines.ScopusEngine;
 import pt.isec.literaturereviewhelper.engines.SpringerEngine;
 import pt.isec.literaturereviewhelper.engines.EngineBase;
+import pt.isec.literaturereviewhelper.engines.EngineContext;
+import pt.isec.literaturereviewhelper.interfaces.IPageCache;
+import pt.isec.literaturereviewhelper.resilience.CircuitBreakerRegistry;
+import pt.isec.literaturereviewhelper.resilience.RateLimiterRegistry;
+import pt.isec.literaturereviewhelper.transport.UpstreamTransferMetrics;
 import pt.isec.literaturereviewhelper.interfaces.IResultMapper;
 import pt.isec.literaturereviewhelper.interfaces.ISearchEngine;
 import pt.isec.literaturereviewhelper.models.ACMResponse;
@@ -31,6 +36,7 @@ class SearchEngineFactoryTest {
     private IResultMapper<SpringerResponse> springerMapper;
     private IResultMapper<ScopusResponse> scopusMapper;
     private IResultMapper<ArxivResponse> arxivMapper;
+    private EngineContext engineContext;
 
     private SearchEngineFactory factory;
 
@@ -42,7 +48,10 @@ class SearchEngineFactoryTest {
         springerMapper = Mockito.mock(IResultMapper.class);
         scopusMapper = Mockito.mock(IResultMapper.class);
         arxivMapper = Mockito.mock(IResultMapper.class);
-        factory = new SearchEngineFactory(webClient, acmMapper, halMapper, springerMapper, scopusMapper, arxivMapper);
+        engineContext = new EngineContext(mock(IPageCache.class), RateLimiterRegistry.unlimited(),
+                CircuitBreakerRegistry.withDefaults(), new UpstreamTransferMetrics());
+        factory = new SearchEngineFactory(webClient, acmMapper, halMapper, springerMapper, scopusMapper, arxivMapper,
+                engineContext);
     }
 
     @Test
@@ -96,6 +105,18 @@ class SearchEngineFactoryTest {
         assertSame(arxivMapper, getPrivate(engine, "mapper"));
     }
 
+    @Test
+    void testCreateSearchEngine_SharesPageCacheAcrossInstances() throws Exception {
+        for (Engines type : Engines.values()) {
+            ISearchEngine first = factory.createSearchEngine(type);
+            ISearchEngine second = factory.createSearchEngine(type);
+
+            assertNotSame(first, second);
+            assertSame(engineContext.getPageCache(), getPrivate(first, "upstreamCache"));
+            assertSame(engineContext.getPageCache(), getPrivate(second, "upstreamCache"));
+        }
+    }
+
     private Object getPrivate(ISearchEngine engine, String fieldName) throws Exception {
         Field f = EngineBase.class.getDeclaredField(fieldName);
         f.setAccessible(true);
@@ -0,0 +1,83 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void testOverlappingPatternsAreFoundThroughFailureLinks() {
+        // Arrange
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+
+        // Act / Assert
+        assertTrue(matcher.containsAny("USHERS"));
+        assertTrue(matcher.containsAny("ahishers"));
+        assertTrue(matcher.containsAny("sHe"));
+        assertFalse(matcher.containsAny("shs hi s"));
+    }
+
+    @Test
+    void testSuffixPatternInsideALongerPartialMatch() {
+        // Arrange: "ieee software" fails after "ieee s", where "e s" must still be tracked
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("ieee software", "e sy"));
+
+        // Act / Assert
+        assertTrue(matcher.containsAny("IEEE Systems Journal"));
+        assertFalse(matcher.containsAny("IEEE Sensors"));
+    }
+
+    @Test
+    void testNonAsciiCharactersAreMatchedIgnoringCase() {
+        // Arrange
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("müller", "são paulo"));
+
+        // Act / Assert
+        assertTrue(matcher.containsAny("Hans MÜLLER"));
+        assertTrue(matcher.containsAny("Universidade de São Paulo"));
+        assertFalse(matcher.containsAny("Sao Paulo"));
+    }
+
+    @Test
+    void testEmptyPatternIsRejectedAndNoPatternsMatchNothing() {
+        assertThrows(IllegalArgumentException.class, () -> new AhoCorasickMatcher(List.of("ieee", "")));
+        assertFalse(new AhoCorasickMatcher(List.of()).containsAny("anything"));
+    }
+
+    @Test
+    void testAgreesWithContainsOnRandomInput() {
+        // Arrange
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> patterns = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(20); i++) {
+                patterns.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            AhoCorasickMatcher matcher = new AhoCorasickMatcher(patterns);
+            String text = randomText(random, random.nextInt(30)).toUpperCase();
+
+            // Act
+            boolean matched = matcher.containsAny(text);
+
+            // Assert
+            assertEquals(patterns.stream().anyMatch(text.toLowerCase()::contains), matched,
+                    () -> patterns + " in " + text);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abc é".charAt(random.nextInt(5)));
+        }
+        return text.toString();
+    }
+}
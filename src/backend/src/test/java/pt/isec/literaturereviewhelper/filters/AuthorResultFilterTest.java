@@ -1,17 +1,16 @@
 package pt.isec.literaturereviewhelper.filters;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.*;
 import org.junit.jupiter.api.Test;
 import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
 import java.util.List;
 
 class AuthorResultFilterTest {
 
     @Test
     void testNullAuthors_ReturnsFalse() {
-        Article article = mock(Article.class);
-        when(article.authors()).thenReturn(null);
+        Article article = withAuthors(null);
 
         AuthorResultFilter filter = new AuthorResultFilter(List.of("Smith"));
         assertFalse(filter.filter(article));
@@ -19,8 +18,7 @@ class AuthorResultFilterTest {
 
     @Test
     void testMatchesAuthorCaseInsensitive() {
-        Article article = mock(Article.class);
-        when(article.authors()).thenReturn(List.of("John Smith", "Alice Johnson"));
+        Article article = withAuthors(List.of("John Smith", "Alice Johnson"));
 
         AuthorResultFilter filterLower = new AuthorResultFilter(List.of("john smith"));
         assertTrue(filterLower.filter(article));
@@ -31,8 +29,7 @@ class AuthorResultFilterTest {
 
     @Test
     void testExclusionWhenMatchingAuthor() {
-        Article article = mock(Article.class);
-        when(article.authors()).thenReturn(List.of("John Smith", "Alice Johnson"));
+        Article article = withAuthors(List.of("John Smith", "Alice Johnson"));
 
         AuthorResultFilter filter = new AuthorResultFilter(List.of("John Smith"), true);
         assertFalse(filter.filter(article));
@@ -40,8 +37,7 @@ class AuthorResultFilterTest {
 
     @Test
     void testNoMatch() {
-        Article article = mock(Article.class);
-        when(article.authors()).thenReturn(List.of("Alice", "Bob"));
+        Article article = withAuthors(List.of("Alice", "Bob"));
 
         AuthorResultFilter filter = new AuthorResultFilter(List.of("Charlie"));
         assertFalse(filter.filter(article));
@@ -49,4 +45,32 @@ class AuthorResultFilterTest {
         filter = new AuthorResultFilter(List.of("Charlie"), true);
         assertTrue(filter.filter(article));
     }
+
+    @Test
+    void testAuthorWithSymbolsIsMatchedAsGiven() {
+        AuthorResultFilter filter = new AuthorResultFilter(List.of("C++ Team"));
+        assertTrue(filter.filter(withAuthors(List.of("The C++ Team"))));
+        assertFalse(filter.filter(withAuthors(List.of("C Team"))));
+    }
+
+    @Test
+    void testPunctuationOnlyAuthorIsIgnored() {
+        AuthorResultFilter filter = new AuthorResultFilter(List.of("-", "."), true);
+        assertTrue(filter.filter(withAuthors(List.of("Müller-Schmidt, J."))));
+    }
+
+    @Test
+    void testMatchesAuthorIgnoringAccentsAndPunctuation() {
+        Article article = withAuthors(List.of("Müller-Schmidt, José", "Alice Johnson"));
+
+        AuthorResultFilter filter = new AuthorResultFilter(List.of("muller schmidt jose"));
+        assertTrue(filter.filter(article));
+
+        filter = new AuthorResultFilter(List.of("MULLER-SCHMIDT"), true);
+        assertFalse(filter.filter(article));
+    }
+
+    private static Article withAuthors(List<String> authors) {
+        return new Article("Title", "2020", "Venue", "journal-article", authors, "link", Engines.ACM);
+    }
 }
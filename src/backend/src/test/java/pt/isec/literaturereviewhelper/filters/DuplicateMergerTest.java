@@ -0,0 +1,123 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+class DuplicateMergerTest {
+    private DuplicateMerger merger;
+
+    @BeforeEach
+    void setUp() {
+        merger = new DuplicateMerger();
+    }
+
+    @Test
+    void testArticlesWithoutDuplicatesAreKeptAsIs() {
+        // Arrange
+        List<Article> articles = List.of(
+                new Article("Title A", "2020", "Venue A", "Journal", List.of("Doe"), "a", Engines.ACM),
+                new Article("Title B", "2021", "Venue B", "Journal", List.of("Roe"), "b", Engines.HAL));
+
+        // Act
+        List<Article> merged = merger.filter(articles);
+
+        // Assert
+        assertEquals(2, merged.size());
+        assertSame(articles.get(0), merged.get(0));
+        assertSame(articles.get(1), merged.get(1));
+    }
+
+    @Test
+    void testPublishedCopyFillsInThePreprint() {
+        // Arrange
+        Article preprint = new Article("Attention Is All You Need", "2017", "arXiv", "Preprint",
+                List.of("Ashish Vaswani, Noam Shazeer, Niki Parmar"), "http://arxiv.org/abs/1706.03762v1", Engines.ARXIV);
+        Article published = new Article("Attention is all you need", "2018", "Advances in NeurIPS", "Conference Paper",
+                List.of("Vaswani A."), "", Engines.SCOPUS, "10.5555/3295222.3295349");
+        Article chapter = new Article("Attention is All you Need", "", "", "", List.of("Vaswani, Ashish",
+                "Shazeer, Noam", "Parmar, Niki"), "https://link.springer.com/1", Engines.SPRINGER);
+
+        // Act
+        List<Article> merged = merger.filter(List.of(preprint, published, chapter));
+
+        // Assert
+        assertEquals(List.of(new Article("Attention Is All You Need", "2018", "Advances in NeurIPS",
+                "Conference Paper", List.of("Vaswani, Ashish", "Shazeer, Noam", "Parmar, Niki"),
+                "http://arxiv.org/abs/1706.03762v1", Engines.ARXIV, "10.5555/3295222.3295349",
+                Set.of(Engines.ARXIV, Engines.SCOPUS, Engines.SPRINGER), null)), merged);
+    }
+
+    @Test
+    void testCopiesAreGroupedByDoiThenTitle() {
+        // Arrange
+        List<Article> articles = List.of(
+                new Article("Deep Learning: A Survey", "2020", "Venue 1", "", List.of(), "", Engines.ACM, "10.1/abc"),
+                new Article("A Survey of Deep Learning", "2020", "Venue 2", "", List.of(), "", Engines.SCOPUS, "10.1/abc"),
+                new Article("A survey of deep learning", "2020", "Venue 3", "", List.of(), "", Engines.HAL),
+                new Article("Graph Mining", "2020", "Venue 4", "", List.of(), "", Engines.HAL));
+
+        // Act
+        List<Article> merged = merger.filter(articles);
+
+        // Assert
+        assertEquals(2, merged.size());
+        assertEquals(Set.of(Engines.ACM, Engines.SCOPUS, Engines.HAL), merged.get(0).sources());
+        assertEquals("Venue 1", merged.get(0).venue());
+        assertEquals(Set.of(Engines.HAL), merged.get(1).sources());
+        assertEquals(4, merger.getExecutionStatistics().get(IResultFilter.Statistic.INPUT));
+        assertEquals(2, merger.getExecutionStatistics().get(IResultFilter.Statistic.OUTPUT));
+        assertEquals(2, merger.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED));
+    }
+
+    @Test
+    void testSameTitleWithDifferentDoisIsNotMerged() {
+        // Arrange
+        List<Article> articles = List.of(
+                new Article("Graph Mining", "2020", "Conference", "", List.of(), "", Engines.ACM, "10.1/conf"),
+                new Article("Graph Mining", "2020", "Preprint", "", List.of(), "", Engines.ARXIV),
+                new Article("Graph mining", "2021", "Journal", "", List.of(), "", Engines.SCOPUS, "10.1/journal"));
+
+        // Act
+        List<Article> merged = merger.filter(articles);
+
+        // Assert
+        assertEquals(2, merged.size());
+        assertEquals("10.1/conf", merged.get(0).doi());
+        assertEquals(Set.of(Engines.ACM, Engines.ARXIV), merged.get(0).sources());
+        assertEquals("10.1/journal", merged.get(1).doi());
+        assertEquals(Set.of(Engines.SCOPUS), merged.get(1).sources());
+    }
+
+    @Test
+    void testUntitledArticlesAreOnlyGroupedByDoi() {
+        // Arrange
+        List<Article> articles = List.of(
+                new Article("", "2020", "Venue 1", "", List.of(), "", Engines.ACM),
+                new Article(null, "2021", "Venue 2", "", List.of(), "", Engines.HAL),
+                new Article("", "2022", "Venue 3", "", List.of(), "", Engines.ACM, "10.1/x"),
+                new Article("Found", "2022", "Venue 3", "", List.of(), "", Engines.SCOPUS, "10.1/x"));
+
+        // Act
+        List<Article> merged = merger.filter(articles);
+
+        // Assert
+        assertEquals(3, merged.size());
+        assertEquals("Found", merged.get(2).title());
+    }
+
+    @Test
+    void testStatisticsRequireAnExecution() {
+        assertThrows(IllegalStateException.class, merger::getExecutionStatistics);
+    }
+}
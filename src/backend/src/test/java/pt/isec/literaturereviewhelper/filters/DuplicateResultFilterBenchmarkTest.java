@@ -0,0 +1,55 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures deduplicating a merged result set of a million articles, a quarter of them duplicates.
+ * Run with {@code mvn test -Dtest=DuplicateResultFilterBenchmarkTest -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class DuplicateResultFilterBenchmarkTest {
+    private static final int ARTICLES = 1_000_000;
+    private static final int DISTINCT = 750_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+
+    @Test
+    void benchmarkDeduplication() {
+        List<Article> articles = new ArrayList<>(ARTICLES);
+        for (int i = 0; i < ARTICLES; i++) {
+            int title = i % DISTINCT;
+            articles.add(new Article((i < DISTINCT ? "Record " : "record: ") + title + " on Machine Learning",
+                    "2024", "Journal", "journal-article", List.of("Doe, John"), "https://example.com/" + i,
+                    Engines.ACM));
+        }
+
+        for (boolean verify : new boolean[] {false, true}) {
+            assertEquals(DISTINCT, new DuplicateResultFilter(verify).filter(articles).size());
+            for (int i = 0; i < WARMUP; i++) {
+                new DuplicateResultFilter(verify).filter(articles);
+            }
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long thread = Thread.currentThread().getId();
+            long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                new DuplicateResultFilter(verify).filter(articles);
+            }
+            long elapsed = (System.nanoTime() - start) / ITERATIONS;
+            long allocated = (threads.getThreadAllocatedBytes(thread) - allocatedBefore) / ITERATIONS;
+            System.out.printf(Locale.ROOT, "verify=%-5b %8.2f ms %12d B allocated (including the %d B result list)%n",
+                    verify, elapsed / 1e6, allocated, 16L + 4L * ARTICLES);
+        }
+    }
+}
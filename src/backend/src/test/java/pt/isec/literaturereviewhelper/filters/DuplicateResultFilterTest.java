@@ -67,4 +67,128 @@ class DuplicateResultFilterTest {
         assertTrue(filteredArticles.stream().anyMatch(a -> a.title().equals("Title B")));
         assertTrue(filteredArticles.stream().anyMatch(a -> a.title().equals("Title C!")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFilter_IncrementalBatchesShareStateAndStatistics() {
+        List<Article> firstBatch = List.of(
+                new Article("Title A", "Author A", "http://urlA", "Venue A", List.of(), "", Engines.ACM),
+                new Article("Title B", "Author B", "http://urlB", "Venue B", List.of(), "", Engines.HAL));
+        List<Article> secondBatch = List.of(
+                new Article("title a", "Author C", "http://urlC", "Venue C", List.of(), "", Engines.SPRINGER),
+                new Article("Title C", "Author D", "http://urlD", "Venue D", List.of(), "", Engines.ACM));
+
+        filter.filter(firstBatch);
+        List<Article> secondFiltered = filter.filter(secondBatch);
+
+        assertEquals(List.of(secondBatch.get(1)), secondFiltered);
+        assertEquals(4, filter.getExecutionStatistics().get(IResultFilter.Statistic.INPUT));
+        assertEquals(3, filter.getExecutionStatistics().get(IResultFilter.Statistic.OUTPUT));
+        assertEquals(1, filter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED));
+    }
+
+    @Test
+    void testFilter_SameDoiWithDifferentTitlesIsADuplicate() {
+        Article article1 = new Article("Deep Learning: A Survey", "2020", "Venue 1", "", List.of(), "", Engines.ACM, "10.1/abc");
+        Article article2 = new Article("A Survey of Deep Learning", "2020", "Venue 2", "", List.of(), "", Engines.SCOPUS, "10.1/abc");
+
+        assertTrue(filter.filter(article1));
+        assertFalse(filter.filter(article2));
+    }
+
+    @Test
+    void testFilter_FallsBackToTitleWhenDoiIsMissing() {
+        Article withoutDoi = new Article("Shared Title", "2020", "Venue 1", "", List.of(), "", Engines.ARXIV);
+        Article withDoi = new Article("Shared Title", "2020", "Venue 2", "", List.of(), "", Engines.ACM, "10.1/abc");
+        Article withoutDoiAgain = new Article("Shared Title", "2021", "Venue 3", "", List.of(), "", Engines.HAL);
+
+        assertTrue(filter.filter(withoutDoi));
+        assertFalse(filter.filter(withDoi));
+        assertFalse(filter.filter(withoutDoiAgain));
+    }
+
+    @Test
+    void testFilter_SameTitleWithDifferentDoisIsADistinctWork() {
+        Article conference = new Article("Shared Title", "2020", "Venue 1", "", List.of(), "", Engines.ARXIV);
+        Article conferenceWithDoi = new Article("Shared Title", "2020", "Venue 1", "", List.of(), "", Engines.ACM, "10.1/conf");
+        Article journal = new Article("Shared title", "2021", "Venue 2", "", List.of(), "", Engines.SCOPUS, "10.1/journal");
+        Article journalAgain = new Article("Shared Title", "2021", "Venue 2", "", List.of(), "", Engines.HAL, "10.1/journal");
+
+        assertTrue(filter.filter(conference));
+        assertFalse(filter.filter(conferenceWithDoi));
+        assertTrue(filter.filter(journal));
+        assertFalse(filter.filter(journalAgain));
+    }
+
+    @Test
+    void testFilter_TitleOfADoiDuplicateBecomesKnown() {
+        List<Article> articles = List.of(
+                new Article("Deep Learning: A Survey", "2020", "Venue 1", "", List.of(), "", Engines.ACM, "10.1/abc"),
+                new Article("A Survey of Deep Learning", "2020", "Venue 2", "", List.of(), "", Engines.SCOPUS, "10.1/abc"),
+                new Article("A survey of deep learning", "2020", "Venue 3", "", List.of(), "", Engines.ARXIV));
+
+        List<Article> filtered = filter.filter(articles);
+
+        assertEquals(List.of(articles.get(0)), filtered);
+        assertEquals(2, filter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED));
+    }
+
+    @Test
+    void testFilter_VerifyingCollisionsDropsTheSameDuplicates() {
+        DuplicateResultFilter verifying = new DuplicateResultFilter(true);
+        List<Article> articles = List.of(
+                new Article("Title A", "2020", "Venue A", "", List.of(), "", Engines.ACM),
+                new Article("Title-A!", "2021", "Venue B", "", List.of(), "", Engines.HAL),
+                new Article("Title B", "2022", "Venue C", "", List.of(), "", Engines.SPRINGER),
+                new Article("Title C", "2022", "Venue D", "", List.of(), "", Engines.SCOPUS, "10.1/b"),
+                new Article("Title D", "2022", "Venue E", "", List.of(), "", Engines.ACM, "10.1/b"));
+
+        List<Article> filtered = verifying.filter(articles);
+
+        assertEquals(List.of(articles.get(0), articles.get(2), articles.get(3)), filtered);
+    }
+
+    @Test
+    void testAcceptInParallel_PartitionedDropsTheSameArticlesAsASequentialScan() {
+        List<Article> first = articles(0, 3_000);
+        List<Article> second = articles(2_000, 5_000);
+        DuplicateResultFilter partitioned = new DuplicateResultFilter(false, 8);
+
+        List<Article> expectedFirst = filter.filter(first);
+        List<Article> expectedSecond = filter.filter(second);
+        partitioned.begin(first.size());
+        List<Article> filteredFirst = partitioned.acceptInParallel(first);
+        partitioned.begin(second.size());
+        List<Article> filteredSecond = partitioned.acceptInParallel(second);
+
+        assertEquals(expectedFirst, filteredFirst);
+        assertEquals(expectedSecond, filteredSecond);
+        assertEquals(filter.getExecutionStatistics(), partitioned.getExecutionStatistics());
+    }
+
+    @Test
+    void testConstructor_PartitionsMustBeAPositivePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateResultFilter(false, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateResultFilter(false, 6));
+        assertDoesNotThrow(() -> new DuplicateResultFilter(false, 16));
+    }
+
+    @Test
+    void testPartitionsFor_RoundsUpToAPowerOfTwo() {
+        assertEquals(1, DuplicateResultFilter.partitionsFor(0));
+        assertEquals(1, DuplicateResultFilter.partitionsFor(1));
+        assertEquals(4, DuplicateResultFilter.partitionsFor(3));
+        assertEquals(8, DuplicateResultFilter.partitionsFor(8));
+    }
+
+    /**
+     * Articles whose titles repeat every 700 and whose DOIs, on every third article, repeat every 250.
+     */
+    private static List<Article> articles(int from, int to) {
+        List<Article> articles = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            articles.add(new Article("Title " + i % 700, "2020", "Venue", "", List.of(), "", Engines.ACM,
+                    i % 3 == 0 ? "10.1/" + i % 250 : ""));
+        }
+        return articles;
+    }
+}
@@ -0,0 +1,20 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FilterTermsTest {
+
+    @Test
+    void testTermsAreSplitByHowTheyAreCompared() {
+        // Arrange / Act
+        FilterTerms terms = new FilterTerms(List.of("Müller-Schmidt, J.", " C++ ", "C#", "-", "&", ""));
+
+        // Assert
+        assertEquals(List.of("muller schmidt j"), terms.normalized());
+        assertEquals(List.of("c++", "c#"), terms.literal());
+    }
+}
@@ -0,0 +1,58 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class FingerprintMapTest {
+
+    @Test
+    void testKeepsEveryValueAcrossGrowth() {
+        // Arrange
+        FingerprintMap map = new FingerprintMap(false);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(FingerprintMap.ABSENT, map.putIfAbsent(i * 31L, null, i));
+        }
+
+        // Assert
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i * 31L, null));
+            assertEquals(i, map.putIfAbsent(i * 31L, null, -i));
+        }
+        assertEquals(FingerprintMap.ABSENT, map.get(7L, null));
+    }
+
+    @Test
+    void testZeroFingerprintIsAnOrdinaryKey() {
+        // Arrange
+        FingerprintMap map = new FingerprintMap(false);
+
+        // Act
+        map.putIfAbsent(0L, null, 3);
+
+        // Assert
+        assertEquals(3, map.get(0L, null));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testCollidingTextsAreKeptApartWhenVerifying() {
+        // Arrange
+        FingerprintMap verifying = new FingerprintMap(true);
+        FingerprintMap trusting = new FingerprintMap(false);
+
+        // Act
+        verifying.putIfAbsent(42L, "deep learning", 1);
+        verifying.putIfAbsent(42L, "graph mining", 2);
+        trusting.putIfAbsent(42L, "deep learning", 1);
+
+        // Assert
+        assertEquals(1, verifying.get(42L, "deep learning"));
+        assertEquals(2, verifying.get(42L, "graph mining"));
+        assertEquals(FingerprintMap.ABSENT, verifying.get(42L, "text mining"));
+        assertEquals(1, trusting.get(42L, "graph mining"));
+    }
+}
@@ -0,0 +1,52 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FingerprintSetTest {
+
+    @Test
+    void testKeepsEveryFingerprintAcrossGrowth() {
+        // Arrange
+        FingerprintSet set = new FingerprintSet(false);
+
+        // Act
+        for (long i = 0; i < 10_000; i++) {
+            assertTrue(set.add(i * 31, null));
+        }
+
+        // Assert
+        assertEquals(10_000, set.size());
+        for (long i = 0; i < 10_000; i++) {
+            assertFalse(set.add(i * 31, null));
+        }
+    }
+
+    @Test
+    void testZeroFingerprintIsAnOrdinaryValue() {
+        // Arrange
+        FingerprintSet set = new FingerprintSet(false);
+
+        // Act / Assert
+        assertTrue(set.add(0L, null));
+        assertFalse(set.add(0L, null));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void testCollidingTextsAreKeptApartWhenVerifying() {
+        // Arrange
+        FingerprintSet verifying = new FingerprintSet(true);
+        FingerprintSet trusting = new FingerprintSet(false);
+
+        // Act / Assert
+        assertTrue(verifying.add(42L, "deep learning"));
+        assertTrue(verifying.add(42L, "graph mining"));
+        assertFalse(verifying.add(42L, "graph mining"));
+        assertTrue(trusting.add(42L, "deep learning"));
+        assertFalse(trusting.add(42L, "graph mining"));
+    }
+}
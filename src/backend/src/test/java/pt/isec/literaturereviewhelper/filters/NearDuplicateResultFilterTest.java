@@ -0,0 +1,152 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+class NearDuplicateResultFilterTest {
+    private NearDuplicateResultFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new NearDuplicateResultFilter();
+    }
+
+    @Test
+    void testTypoIsANearDuplicate() {
+        assertTrue(filter.filter(titled("Continuous Integration Applied to Software-Intensive Embedded Systems")));
+        assertFalse(filter.filter(titled("Continous Integration Applied to Software Intensive Embeded Systems")));
+    }
+
+    @Test
+    void testLatexMarkupIsIgnored() {
+        assertTrue(filter.filter(titled("Sparse recovery of $\\ell_1$ minimizers with \\emph{noisy} measurements")));
+        assertFalse(filter.filter(titled("Sparse recovery of l1 minimizers with noisy measurements")));
+    }
+
+    @Test
+    void testSubtitleIsANearDuplicateOfTheMainTitle() {
+        assertTrue(filter.filter(titled("Attention Is All You Need")));
+        assertFalse(filter.filter(titled("Attention Is All You Need: Transformers for Sequence Transduction")));
+
+        NearDuplicateResultFilter reversed = new NearDuplicateResultFilter();
+        assertTrue(reversed.filter(titled("Attention Is All You Need - Transformers for Sequence Transduction")));
+        assertFalse(reversed.filter(titled("Attention is all you need")));
+    }
+
+    @Test
+    void testDifferentSubtitlesOfTheSameMainTitleAreKept() {
+        assertTrue(filter.filter(titled("Deep Learning for Healthcare: Part I, Imaging")));
+        assertTrue(filter.filter(titled("Deep Learning for Healthcare: Part II, Electronic Health Records")));
+    }
+
+    @Test
+    void testDistinctTitlesAreKept() {
+        List<Article> articles = List.of(
+                titled("Deep learning for image classification"),
+                titled("Deep learning for text classification"),
+                titled("Graph neural networks for molecule property prediction"),
+                titled(null));
+
+        List<Article> filtered = filter.filter(articles);
+
+        assertEquals(articles, filtered);
+        assertEquals(0, filter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED));
+    }
+
+    @Test
+    void testDifferentDoisAreNeverNearDuplicates() {
+        String title = "Continuous Integration Applied to Software-Intensive Embedded Systems";
+        assertTrue(filter.filter(new Article(title, "2017", "", "", List.of(), "", Engines.ACM, "10.1/conf")));
+        assertTrue(filter.filter(new Article(title + "s", "2018", "", "", List.of(), "", Engines.HAL, "10.1/journal")));
+        assertFalse(filter.filter(new Article(title + "!", "2018", "", "", List.of(), "", Engines.ARXIV)));
+        assertFalse(filter.filter(new Article(title + "s", "2018", "", "", List.of(), "", Engines.SCOPUS,
+                "10.1/conf")));
+    }
+
+    @Test
+    void testDroppedArticleAddsItsEnginesToTheKeptArticle() {
+        Article kept = new Article("Attention Is All You Need", "2017", "NeurIPS", "", List.of(), "", Engines.SCOPUS);
+        Article variant = new Article("Attention is all you need: Transformers for sequence transduction", "2017", "",
+                "", List.of(), "", Engines.ARXIV);
+
+        List<Article> filtered = filter.filter(List.of(kept, variant));
+
+        assertEquals(1, filtered.size());
+        assertEquals(kept.title(), filtered.get(0).title());
+        assertEquals(Engines.SCOPUS, filtered.get(0).source());
+        assertEquals(Set.of(Engines.SCOPUS, Engines.ARXIV), filtered.get(0).sources());
+        assertEquals(1, filter.getExecutionStatistics().get(IResultFilter.Statistic.DROPPED));
+    }
+
+    @Test
+    void testLowerThresholdDropsLooserMatches() {
+        Article first = titled("A survey of deep learning for image classification");
+        Article second = titled("Survey on deep learning methods for classifying images");
+
+        assertTrue(filter.filter(first));
+        assertTrue(filter.filter(second));
+
+        NearDuplicateResultFilter loose = new NearDuplicateResultFilter(0.3);
+        assertTrue(loose.filter(first));
+        assertFalse(loose.filter(second));
+    }
+
+    @Test
+    void testThresholdMustBeAProportion() {
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateResultFilter(0));
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateResultFilter(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateResultFilter(Double.NaN));
+    }
+
+    @Test
+    void testBandsGetWiderAsTheThresholdRises() {
+        assertEquals(1, NearDuplicateResultFilter.rowsPerBand(0.05));
+        assertEquals(4, NearDuplicateResultFilter.rowsPerBand(0.5));
+        assertEquals(8, NearDuplicateResultFilter.rowsPerBand(0.8));
+        assertEquals(16, NearDuplicateResultFilter.rowsPerBand(0.95));
+    }
+
+    @Test
+    void testSignaturesEstimateJaccardSimilarity() {
+        String a = "continuous integration applied to software intensive embedded systems";
+        String b = "continuous delivery applied to software intensive cyber physical systems";
+
+        double estimated = NearDuplicateResultFilter.similarity(NearDuplicateResultFilter.signature(a),
+                NearDuplicateResultFilter.signature(b));
+
+        assertEquals(jaccard(shingles(a), shingles(b)), estimated, 0.12);
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> union = new HashSet<>(a);
+        union.addAll(b);
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / union.size();
+    }
+
+    private static Set<String> shingles(String text) {
+        Set<String> shingles = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            shingles.add(text.substring(i, i + 3));
+        }
+        return shingles;
+    }
+
+    private static Article titled(String title) {
+        return new Article(title, "2024", "Venue", "journal-article", List.of("Author"), "link", Engines.ACM);
+    }
+}
@@ -0,0 +1,123 @@
+package pt.isec.literaturereviewhelper.filters;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares handing the result set from one filter to the next against the chain's fused single pass, on a
+ * result set of 100k articles with six active filters. The filters read the normalized view each article computes
+ * once when it is created, whose cost is measured separately. The chain's single pass is also compared against its
+ * parallel stages over growing result sets, to find where {@link ResultFilterChain#DEFAULT_PARALLEL_THRESHOLD}
+ * starts paying off; only wall time is compared there, as allocations on the pool's threads are not counted.
+ * Run with {@code mvn test -Dtest=ResultFilterChainBenchmarkTest -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ResultFilterChainBenchmarkTest {
+    private static final int ARTICLES = 100_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void benchmarkFusedChain() {
+        List<Article> articles = articles();
+        List<Article> sequential = runSequentially(articles);
+        List<Article> fused = new ResultFilterChain(filters()).filter(articles);
+        assertEquals(sequential, fused);
+
+        Result perFilter = measure(() -> runSequentially(articles));
+        Result singlePass = measure(() -> new ResultFilterChain(filters()).filter(articles));
+        System.out.printf(Locale.ROOT, "per filter: %8.2f ms %12d B | fused: %8.2f ms %12d B%n",
+                perFilter.nanos() / 1e6, perFilter.bytes(), singlePass.nanos() / 1e6, singlePass.bytes());
+    }
+
+    @Test
+    void benchmarkParallelChain() {
+        for (int size : new int[] {1_000, 5_000, 10_000, 20_000, 50_000, 100_000, 500_000}) {
+            List<Article> articles = articles(size);
+            assertEquals(new ResultFilterChain(filters(), Integer.MAX_VALUE).filter(articles),
+                    new ResultFilterChain(filters(), 0).filter(articles));
+
+            Result singlePass = measure(() -> new ResultFilterChain(filters(), Integer.MAX_VALUE).filter(articles));
+            Result parallel = measure(() -> new ResultFilterChain(filters(), 0).filter(articles));
+            System.out.printf(Locale.ROOT, "%7d articles | single pass: %8.2f ms | parallel: %8.2f ms%n",
+                    size, singlePass.nanos() / 1e6, parallel.nanos() / 1e6);
+        }
+    }
+
+    @Test
+    void benchmarkNormalizedView() {
+        Result creation = measure(ResultFilterChainBenchmarkTest::articles);
+        System.out.printf(Locale.ROOT, "creating and normalizing %d articles: %8.2f ms %12d B%n",
+                ARTICLES, creation.nanos() / 1e6, creation.bytes());
+    }
+
+    /**
+     * The chain as it ran before fusing: each filter builds the list handed to the next one.
+     */
+    private static List<Article> runSequentially(List<Article> articles) {
+        List<Article> filtered = articles;
+        for (IResultFilter filter : filters()) {
+            filtered = filtered.stream().filter(((ResultFilterBase) filter)::filter).toList();
+        }
+        return filtered;
+    }
+
+    /**
+     * Six filters, as built for a search with a year range, one include and three exclude lists.
+     */
+    private static List<IResultFilter> filters() {
+        return List.of(
+                new YearResultFilter(2005, 2024),
+                new AuthorResultFilter(List.of("Nobody, Really"), true),
+                new VenueResultFilter(List.of("Journal")),
+                new VenueResultFilter(List.of("Predatory Journal"), true),
+                new TitleResultFilter(List.of("retracted"), true),
+                new DuplicateResultFilter(false,
+                        DuplicateResultFilter.partitionsFor(ForkJoinPool.getCommonPoolParallelism())));
+    }
+
+    private static Result measure(Supplier<List<Article>> run) {
+        for (int i = 0; i < WARMUP; i++) {
+            run.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            run.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        return new Result(elapsed / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static List<Article> articles() {
+        return articles(ARTICLES);
+    }
+
+    private static List<Article> articles(int size) {
+        List<Article> articles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            articles.add(new Article("Record " + i + " on machine learning", String.valueOf(2000 + i % 25),
+                    i % 10 == 0 ? "Conference " + i % 7 : "Journal of AI " + i % 13, "journal-article",
+                    List.of("Doe, John", "Author " + i % 101), "https://example.com/" + i, Engines.ACM));
+        }
+        return articles;
+    }
+
+    private record Result(long nanos, long bytes) {
+    }
+}
@@ -5,6 +5,7 @@ import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -186,4 +187,82 @@ class ResultFilterChainTest {
                 chain.getExecutionStatistics()
         );
     }
+
+    @Test
+    void testFusedChainReportsTheSamePerFilterStatisticsAsSequentialFilters() {
+        // Arrange
+        List<Article> articles = Arrays.asList(
+                new Article("Deep Learning", "2010", "Venue A", "", List.of("Doe, John"), "", Engines.ACM),
+                new Article("Deep Learning", "2016", "Venue A", "", List.of("Doe, John"), "", Engines.ACM),
+                new Article("deep learning!", "2017", "Venue B", "", List.of("Doe, John"), "", Engines.HAL),
+                new Article("Graph Mining", "2018", "Venue B", "", List.of("Smith, Jane"), "", Engines.HAL),
+                new Article("Graph Mining", "2019", "Venue C", "", List.of("Doe, John"), "", Engines.ARXIV)
+        );
+        List<IResultFilter> sequential = List.of(new YearResultFilter(2015, 2020),
+                new AuthorResultFilter(List.of("Doe, John")), new DuplicateResultFilter());
+        List<Article> expected = articles;
+        for (IResultFilter filter : sequential) {
+            expected = filter.filter(expected);
+        }
+        ResultFilterChain chain = new ResultFilterChain(List.of(new YearResultFilter(2015, 2020),
+                new AuthorResultFilter(List.of("Doe, John")), new DuplicateResultFilter()));
+
+        // Act
+        List<Article> filtered = chain.filter(articles);
+
+        // Assert
+        assertEquals(expected, filtered);
+        for (IResultFilter filter : sequential) {
+            assertEquals(filter.getExecutionStatistics(),
+                    chain.getAllExecutionStatistics().get(filter.getClass().getSimpleName()));
+        }
+    }
+
+    @Test
+    void testFiltersAfterAnEmptiedResultSetReportZeroInput() {
+        // Arrange
+        ResultFilterChain chain = new ResultFilterChain(List.of(new YearResultFilter(2030, 2040),
+                new DuplicateResultFilter()));
+
+        // Act
+        List<Article> filtered = chain.filter(List.of(
+                new Article("Deep Learning", "2010", "", "", List.of(), "", Engines.ACM)));
+
+        // Assert
+        assertTrue(filtered.isEmpty());
+        assertEquals(Map.of(
+                IResultFilter.Statistic.INPUT, 0,
+                IResultFilter.Statistic.OUTPUT, 0,
+                IResultFilter.Statistic.DROPPED, 0
+        ), chain.getAllExecutionStatistics().get("DuplicateResultFilter"));
+    }
+
+    @Test
+    void testParallelChainReturnsTheSameArticlesAndStatisticsAsASinglePass() {
+        // Arrange
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            articles.add(new Article("Record " + i % 1_500 + (i % 7 == 0 ? " retracted" : ""),
+                    String.valueOf(2000 + i % 25), "Venue " + i % 11, "", List.of("Author " + i % 13), "",
+                    Engines.ACM, i % 5 == 0 ? "10.1/" + i % 400 : ""));
+        }
+        ResultFilterChain singlePass = new ResultFilterChain(chainFilters(), Integer.MAX_VALUE);
+        ResultFilterChain parallel = new ResultFilterChain(chainFilters(), 0);
+
+        // Act
+        List<Article> expected = singlePass.filter(articles);
+        List<Article> filtered = parallel.filter(articles);
+
+        // Assert
+        assertEquals(expected, filtered);
+        assertEquals(singlePass.getAllExecutionStatistics(), parallel.getAllExecutionStatistics());
+    }
+
+    /**
+     * Stateless filters on both sides of a partitioned duplicate filter.
+     */
+    private static List<IResultFilter> chainFilters() {
+        return List.of(new YearResultFilter(2005, 2020), new AuthorResultFilter(List.of("Author 12"), true),
+                new DuplicateResultFilter(false, 4), new TitleResultFilter(List.of("retracted"), true));
+    }
 }
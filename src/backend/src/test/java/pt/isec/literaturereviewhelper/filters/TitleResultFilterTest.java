@@ -2,22 +2,20 @@ package pt.isec.literaturereviewhelper.filters;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
 
 class TitleResultFilterTest {
     private TitleResultFilter filter;
 
     @Test
     void testMatchesTitleCaseInsensitive() {
-        Article article = mock(Article.class);
-        when(article.title()).thenReturn("Continuous Integration Applied to Software-Intensive Embedded Systems");
+        Article article = withTitle("Continuous Integration Applied to Software-Intensive Embedded Systems");
 
         filter = new TitleResultFilter(List.of("continuous integration applied to software-intensive embedded systems"));
         assertTrue(filter.filter(article));
@@ -28,8 +26,7 @@ class TitleResultFilterTest {
 
     @Test
     void testExclusionWhenMatchingTitle() {
-        Article article = mock(Article.class);
-        when(article.title()).thenReturn("Continuous Integration Applied to Software-Intensive Embedded Systems");
+        Article article = withTitle("Continuous Integration Applied to Software-Intensive Embedded Systems");
 
         filter = new TitleResultFilter(List.of("Continuous Integration Applied to Software-Intensive Embedded Systems"), true);
         assertFalse(filter.filter(article));
@@ -37,8 +34,7 @@ class TitleResultFilterTest {
 
     @Test
     void testNoMatch() {
-        Article article = mock(Article.class);
-        when(article.title()).thenReturn("Continuous Integration Applied to Software-Intensive Embedded Systems");
+        Article article = withTitle("Continuous Integration Applied to Software-Intensive Embedded Systems");
 
         filter = new TitleResultFilter(List.of("continuous integration applied to software-intensive embedded systems"));
         assertTrue(filter.filter(article));
@@ -46,4 +42,34 @@ class TitleResultFilterTest {
         filter = new TitleResultFilter(List.of("continuous integration applied to software-intensive embedded systems"), true);
         assertFalse(filter.filter(article));
     }
+
+    @Test
+    void testMatchesTitleIgnoringAccentsAndPunctuation() {
+        Article article = withTitle("Análise de Sentimentos: um estudo");
+
+        filter = new TitleResultFilter(List.of("analise de sentimentos um estudo"));
+        assertTrue(filter.filter(article));
+
+        filter = new TitleResultFilter(List.of("Análise de sentimentos - um estudo!"), true);
+        assertFalse(filter.filter(article));
+    }
+
+    @Test
+    void testTitleWithSymbolsIsMatchedAsGiven() {
+        filter = new TitleResultFilter(List.of("C++"), true);
+        assertFalse(filter.filter(withTitle("c++")));
+        assertTrue(filter.filter(withTitle("C")));
+        assertTrue(filter.filter(withTitle("C#")));
+    }
+
+    @Test
+    void testPunctuationOnlyTitleIsIgnored() {
+        filter = new TitleResultFilter(List.of("?!"), true);
+        assertTrue(filter.filter(withTitle("")));
+        assertTrue(filter.filter(withTitle("?!")));
+    }
+
+    private static Article withTitle(String title) {
+        return new Article(title, "2020", "Venue", "journal-article", List.of("Author"), "link", Engines.ACM);
+    }
 }
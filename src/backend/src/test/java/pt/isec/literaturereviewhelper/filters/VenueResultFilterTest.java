@@ -2,22 +2,20 @@ package pt.isec.literaturereviewhelper.filters;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.Engines;
 
 class VenueResultFilterTest {
     private VenueResultFilter filter;
 
     @Test
     void testNullVenue_ReturnsFalse() {
-        Article article = mock(Article.class);
-        when(article.venue()).thenReturn(null);
+        Article article = withVenue(null);
 
         filter = new VenueResultFilter(List.of("IEEE International Conference on Software Architecture"));
         assertFalse(filter.filter(article));
@@ -28,8 +26,7 @@ class VenueResultFilterTest {
 
     @Test
     void testMatchesVenueCaseInsensitive() {
-        Article article = mock(Article.class);
-        when(article.venue()).thenReturn("2017 IEEE International Conference on Software Architecture");
+        Article article = withVenue("2017 IEEE International Conference on Software Architecture");
 
         filter = new VenueResultFilter(List.of("ieee international conference on software architecture"));
         assertTrue(filter.filter(article));
@@ -40,8 +37,7 @@ class VenueResultFilterTest {
 
     @Test
     void testExclusionWhenMatchingVenue() {
-        Article article = mock(Article.class);
-        when(article.venue()).thenReturn("2017 IEEE International Conference on Software Architecture");
+        Article article = withVenue("2017 IEEE International Conference on Software Architecture");
 
         filter = new VenueResultFilter(List.of("IEEE International Conference on Software Architecture"), true);
         assertFalse(filter.filter(article));
@@ -49,8 +45,7 @@ class VenueResultFilterTest {
 
     @Test
     void testNoMatch() {
-        Article article = mock(Article.class);
-        when(article.venue()).thenReturn("IEEE/ACM International Conference on Software and System Processes");
+        Article article = withVenue("IEEE/ACM International Conference on Software and System Processes");
 
         filter = new VenueResultFilter(List.of("IEEE International Conference on Software Architecture"));
         assertFalse(filter.filter(article));
@@ -58,4 +53,39 @@ class VenueResultFilterTest {
         filter = new VenueResultFilter(List.of("IEEE International Conference on Software Architecture"), true);
         assertTrue(filter.filter(article));
     }
+
+    @Test
+    void testVenueWithSymbolsIsMatchedAsGiven() {
+        filter = new VenueResultFilter(List.of("C++"));
+        assertTrue(filter.filter(withVenue("Journal of C++ Programming")));
+        assertFalse(filter.filter(withVenue("Journal of C Programming")));
+
+        filter = new VenueResultFilter(List.of("c#"), true);
+        assertFalse(filter.filter(withVenue("C# Developers Conference")));
+        assertTrue(filter.filter(withVenue("C Developers Conference")));
+    }
+
+    @Test
+    void testPunctuationOnlyVenueIsIgnored() {
+        filter = new VenueResultFilter(List.of("-", "&"), true);
+        assertTrue(filter.filter(withVenue("IEEE - Software & Systems")));
+
+        filter = new VenueResultFilter(List.of("-", "Software"), true);
+        assertFalse(filter.filter(withVenue("IEEE - Software & Systems")));
+    }
+
+    @Test
+    void testMatchesVenueIgnoringAccentsAndPunctuation() {
+        Article article = withVenue("Proc. of the Conferência Ibérica (IEEE/ACM)");
+
+        filter = new VenueResultFilter(List.of("conferencia iberica ieee acm"));
+        assertTrue(filter.filter(article));
+
+        filter = new VenueResultFilter(List.of("Conferência Ibérica"), true);
+        assertFalse(filter.filter(article));
+    }
+
+    private static Article withVenue(String venue) {
+        return new Article("Title", "2020", venue, "journal-article", List.of("Author"), "link", Engines.ACM);
+    }
 }
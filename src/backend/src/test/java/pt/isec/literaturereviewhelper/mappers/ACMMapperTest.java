@@ -1,10 +1,16 @@
 package pt.isec.literaturereviewhelper.mappers;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import pt.isec.literaturereviewhelper.models.ACMResponse;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -184,6 +190,7 @@ class ACMMapperTest {
         ));
         item.setPublishedPrint(new ACMResponse.PublishedDate(List.of(List.of(2024, 1, 15))));
         item.setLink(List.of(Map.of("URL", "https://example.com/article")));
+        item.setDoi("10.1145/3368089");
         return item;
     }
 
@@ -192,4 +199,62 @@ class ACMMapperTest {
         f.setAccessible(true);
         f.set(target, value);
     }
+
+    @Test
+    void testMapStreamDecodesItemsSplitAcrossBuffers() {
+        String json = """
+                {"status": "ok", "message": {"total-results": 2, "items": [
+                  {"title": ["AI   Research\\nPaper"], "type": "journal-article", "DOI": "10.1145/ABC.123",
+                   "container-title": ["Journal of AI"],
+                   "author": [{"given": "John", "family": "Doe", "affiliation": []}, {"family": "Smith"}],
+                   "published-print": {"date-parts": [[2024, 1, 15]]},
+                   "reference": [{"key": "ref1", "DOI": "10.1/x"}],
+                   "link": [{"URL": "https://example.com/article"}, {"URL": "https://other"}]},
+                  {"title": ["Online"], "published-online": {"date-parts": [[2022]]},
+                   "link": [{"content-type": "text/html"}, {"URL": "https://should-not-be-picked"}]}
+                ]}}
+                """;
+
+        StepVerifier.create(mapper.mapStream(split(json, json.indexOf("Smith"))))
+                .assertNext(a -> {
+                    assertEquals("AI Research Paper", a.title());
+                    assertEquals("2024", a.publicationYear());
+                    assertEquals("Journal of AI", a.venue());
+                    assertEquals("journal-article", a.venueType());
+                    assertEquals(List.of("John Doe", "Smith"), a.authors());
+                    assertEquals("https://example.com/article", a.link());
+                    assertEquals(Engines.ACM, a.source());
+                    assertEquals("10.1145/abc.123", a.doi());
+                })
+                .assertNext(a -> {
+                    assertEquals("Online", a.title());
+                    assertEquals("2022", a.publicationYear());
+                    assertEquals("", a.link());
+                    assertEquals("", a.doi());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testMapStreamMatchesMap() {
+        ACMResponse.Item item = getItem();
+
+        Article expected = mapper.map(makeResponse(item)).get(0);
+        String json = """
+                {"message": {"items": [{"title": ["AI Research Paper"], "type": "journal-article",
+                  "container-title": ["Journal of AI"],
+                  "authors": [{"given": "John", "family": "Doe"}, {"given": "Jane", "family": "Smith"}],
+                  "published-print": {"date-parts": [[2024, 1, 15]]},
+                  "link": [{"URL": "https://example.com/article"}], "DOI": "10.1145/3368089"}]}}
+                """;
+
+        assertEquals(List.of(expected), mapper.mapStream(split(json, 40)).collectList().block());
+    }
+
+    private static Flux<DataBuffer> split(String json, int at) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, at)),
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, at, bytes.length)));
+    }
 }
@@ -1,10 +1,17 @@
 package pt.isec.literaturereviewhelper.mappers;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import pt.isec.literaturereviewhelper.models.ArxivResponse;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -146,4 +153,70 @@ class ArxivMapperTest {
         assertEquals("Paper 2", out.get(1).title());
         assertEquals("Paper 3", out.get(2).title());
     }
+
+    private static final String FEED = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <feed xmlns="http://www.w3.org/2005/Atom" xmlns:arxiv="http://arxiv.org/schemas/atom">
+              <id>https://arxiv.org/api/feed-id</id>
+              <title type="html">ArXiv Query: search_query=all:ai</title>
+              <entry>
+                <id>http://arxiv.org/abs/2401.00001v1</id>
+                <published>2024-01-02T10:00:00Z</published>
+                <title>  Attention &amp; Everything
+                  Else  </title>
+                <author>
+                  <name>John Doe</name>
+                  <arxiv:affiliation>Somewhere</arxiv:affiliation>
+                </author>
+                <author><name>Jane Smith</name></author>
+                <arxiv:primary_category term="cs.AI"/>
+                <arxiv:doi>10.1000/XYZ.42</arxiv:doi>
+              </entry>
+              <entry>
+                <id>http://arxiv.org/abs/2312.99999v2</id>
+                <published>2023-12-31T23:59:59Z</published>
+                <title>Second</title>
+              </entry>
+            </feed>
+            """;
+
+    @Test
+    void testMapStreamReadsEntriesFromAtomFeed() {
+        byte[] bytes = FEED.getBytes(StandardCharsets.UTF_8);
+        int split = FEED.indexOf("<author>");
+        Flux<DataBuffer> body = Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, split)),
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, split, bytes.length)));
+
+        StepVerifier.create(mapper.mapStream(body))
+                .assertNext(a -> {
+                    assertEquals("Attention & Everything\n      Else", a.title());
+                    assertEquals("2024", a.publicationYear());
+                    assertEquals(List.of("John Doe, Jane Smith"), a.authors());
+                    assertEquals("http://arxiv.org/abs/2401.00001v1", a.link());
+                    assertEquals(Engines.ARXIV, a.source());
+                    assertEquals("10.1000/xyz.42", a.doi());
+                })
+                .assertNext(a -> {
+                    assertEquals("Second", a.title());
+                    assertEquals("", a.doi());
+                    assertEquals("2023", a.publicationYear());
+                    assertEquals(List.of(""), a.authors());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testMapStreamRejectsDoctype() {
+        String xml = """
+                <?xml version="1.0"?>
+                <!DOCTYPE feed [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <feed xmlns="http://www.w3.org/2005/Atom"><entry><title>&xxe;</title></entry></feed>
+                """;
+        Flux<DataBuffer> body = Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(xml.getBytes(StandardCharsets.UTF_8)));
+
+        StepVerifier.create(mapper.mapStream(body))
+                .verifyError(IOException.class);
+    }
 }
@@ -0,0 +1,90 @@
+package pt.isec.literaturereviewhelper.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BibtexReaderTest {
+
+    @Test
+    void testReadsBracedQuotedAndBareValues() throws IOException {
+        List<BibtexReader.Entry> entries = readAll("""
+                @Article{key1,
+                  title = {A {Braced} Title},
+                  journal = "Quoted {Journal}",
+                  year = 2024
+                }
+                """);
+
+        assertEquals(1, entries.size());
+        BibtexReader.Entry entry = entries.get(0);
+        assertEquals("article", entry.type());
+        assertEquals("A {Braced} Title", entry.field("TITLE"));
+        assertEquals("Quoted {Journal}", entry.field("JOURNAL"));
+        assertEquals("2024", entry.field("YEAR"));
+        assertEquals("", entry.field("URL"));
+    }
+
+    @Test
+    void testCollapsesWhitespaceAndConcatenatesParts() throws IOException {
+        List<BibtexReader.Entry> entries = readAll("""
+                @book(key,
+                  AUTHOR = {Doe, John and
+                            Smith, Jane},
+                  TITLE = "First" # { and second}
+                )
+                """);
+
+        assertEquals("Doe, John and Smith, Jane", entries.get(0).field("AUTHOR"));
+        assertEquals("First and second", entries.get(0).field("TITLE"));
+    }
+
+    @Test
+    void testSkipsCommentsPreamblesAndStrings() throws IOException {
+        List<BibtexReader.Entry> entries = readAll("""
+                @comment{ This is {not} an entry }
+                @preamble{ "\\newcommand{\\x}{y}" }
+                @string{ ieee = "IEEE" }
+                text between entries is ignored
+                @misc{only, TITLE = {Kept}}
+                """);
+
+        assertEquals(1, entries.size());
+        assertEquals("Kept", entries.get(0).field("TITLE"));
+    }
+
+    @Test
+    void testMalformedEntryDoesNotAffectFollowingEntries() throws IOException {
+        List<BibtexReader.Entry> entries = readAll("""
+                @article{broken, TITLE {missing equals}}
+                @article{fine, TITLE = {Fine}}
+                @article{truncated, TITLE = {Never closed
+                """);
+
+        assertEquals(1, entries.size());
+        assertEquals("Fine", entries.get(0).field("TITLE"));
+    }
+
+    @Test
+    void testReturnsNullAtEndOfInput() throws IOException {
+        try (BibtexReader reader = new BibtexReader(new StringReader(""))) {
+            assertNull(reader.next());
+        }
+    }
+
+    private static List<BibtexReader.Entry> readAll(String bibtex) throws IOException {
+        List<BibtexReader.Entry> entries = new ArrayList<>();
+        try (BibtexReader reader = new BibtexReader(new StringReader(bibtex))) {
+            for (BibtexReader.Entry entry = reader.next(); entry != null; entry = reader.next()) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+}
@@ -2,8 +2,14 @@ package pt.isec.literaturereviewhelper.mappers;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import pt.isec.literaturereviewhelper.models.Article;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -207,4 +213,43 @@ class HalMapperTest {
         assertEquals("Big Publisher", a3.venue());
         assertEquals("Book", a3.venueType());
     }
+
+    @Test
+    void testMapStreamEmitsEntriesSplitAcrossBuffers() {
+        String bibtex = """
+                @article{art1, TITLE = {Ensaio sobre a cegueira}, AUTHOR = {Saramago, José}, YEAR = {1995},
+                  DOI = {10.3917/ABC.001}}
+                @book{book1, TITLE = {Second}, PUBLISHER = {Publisher}}
+                """;
+        byte[] bytes = bibtex.getBytes(StandardCharsets.UTF_8);
+        int split = bibtex.indexOf("é") + 1; // in the middle of the two bytes of 'é'
+
+        Flux<DataBuffer> body = Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, split)),
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, split, bytes.length)));
+
+        StepVerifier.create(mapper.mapStream(body))
+                .assertNext(a -> {
+                    assertEquals("Ensaio sobre a cegueira", a.title());
+                    assertEquals(List.of("Saramago, José"), a.authors());
+                    assertEquals("10.3917/abc.001", a.doi());
+                })
+                .assertNext(a -> {
+                    assertEquals("Publisher", a.venue());
+                    assertEquals("", a.doi());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testMapStreamMatchesMap() {
+        String bibtex = """
+                @article{art1, TITLE = {First Article}, YEAR = {2023}, JOURNAL = {J}}
+                @inproceedings{conf, TITLE = {Conference Paper}, YEAR = {2025}, BOOKTITLE = {C}}
+                """;
+        Flux<DataBuffer> body = Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(bibtex.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(mapper.map(bibtex), mapper.mapStream(body).collectList().block());
+    }
 }
@@ -0,0 +1,119 @@
+package pt.isec.literaturereviewhelper.mappers;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import pt.isec.literaturereviewhelper.models.ACMResponse;
+import pt.isec.literaturereviewhelper.models.Article;
+import pt.isec.literaturereviewhelper.models.ScopusResponse;
+import pt.isec.literaturereviewhelper.models.SpringerResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares binding the full response model and mapping it against decoding articles straight from the token
+ * stream. Run with {@code mvn test -Dtest=MapperDecodingBenchmarkTest -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class MapperDecodingBenchmarkTest {
+    private static final int RECORDS = 100;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void benchmarkScopus() throws IOException {
+        compare("scopus", new ScopusMapper(), ScopusResponse.class, page("""
+                {"search-results": {"opensearch:totalResults": "5000", "entry": [%s]}}""", """
+                {"@_fa": "true", "dc:identifier": "SCOPUS_ID:1", "prism:url": "https://api.elsevier.com/1",
+                 "dc:title": "Record %d on machine learning", "dc:creator": "Doe J.; Smith J.",
+                 "prism:publicationName": "Journal of AI", "prism:issn": "12345678", "prism:volume": "12",
+                 "prism:coverDate": "2024-01-15", "prism:doi": "10.1/%1$d", "citedby-count": "3",
+                 "affiliation": [{"affilname": "ISEC", "affiliation-city": "Coimbra"}],
+                 "prism:aggregationType": "Journal", "subtype": "ar", "subtypeDescription": "Article",
+                 "link": [{"@ref": "self", "@href": "https://api.elsevier.com/1"},
+                          {"@ref": "scopus", "@href": "https://www.scopus.com/1"}]}"""));
+    }
+
+    @Test
+    void benchmarkSpringer() throws IOException {
+        compare("springer", new SpringerMapper(), SpringerResponse.class, page("""
+                {"apiMessage": "ok", "result": [{"total": "5000"}], "records": [%s]}""", """
+                {"contentType": "Article", "identifier": "doi:10.1/%d", "language": "en",
+                 "url": [{"format": "html", "platform": "web", "value": "https://link.springer.com/1"}],
+                 "title": "Record %1$d on machine learning", "creators": [{"creator": "Doe, John"}, {"creator": "Smith, Jane"}],
+                 "publicationName": "Springer AI", "doi": "10.1/1", "publisher": "Springer",
+                 "publicationDate": "2023-05-10", "onlineDate": "2023-05-01",
+                 "abstract": {"h1": "Abstract", "p": "A fairly long abstract that neither decoder needs to keep."},
+                 "subjects": ["Computer Science", "Artificial Intelligence"]}"""));
+    }
+
+    @Test
+    void benchmarkCrossref() throws IOException {
+        compare("crossref", new ACMMapper(), ACMResponse.class, page("""
+                {"status": "ok", "message": {"total-results": 5000, "items": [%s]}}""", """
+                {"DOI": "10.1145/%d", "type": "journal-article", "title": ["Record %1$d on machine learning"],
+                 "container-title": ["Journal of AI"], "publisher": "ACM",
+                 "author": [{"given": "John", "family": "Doe", "affiliation": []},
+                            {"given": "Jane", "family": "Smith", "affiliation": []}],
+                 "published-print": {"date-parts": [[2024, 1, 15]]},
+                 "reference": [{"key": "r1", "DOI": "10.1/a"}, {"key": "r2", "DOI": "10.1/b"}],
+                 "link": [{"URL": "https://dl.acm.org/1", "content-type": "text/html"}]}"""));
+    }
+
+    private <R> void compare(String name, JsonStreamingMapperBase<R> mapper, Class<R> responseType, byte[] body)
+            throws IOException {
+        List<Article> bound = mapper.map(objectMapper.readValue(body, responseType));
+        List<Article> streamed = StreamingMapperBase.readAll(mapper.open(new ByteArrayInputStream(body)));
+        assertEquals(bound, streamed);
+
+        Result binding = measure(() -> mapper.map(objectMapper.readValue(body, responseType)));
+        Result streaming = measure(() -> StreamingMapperBase.readAll(mapper.open(new ByteArrayInputStream(body))));
+        System.out.printf(Locale.ROOT, "%-9s binding: %8.1f us/page %10d B/page | streaming: %8.1f us/page %10d B/page%n",
+                name, binding.nanos() / 1_000.0, binding.bytes(), streaming.nanos() / 1_000.0, streaming.bytes());
+    }
+
+    private static Result measure(Decoder decoder) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            decoder.decode();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decoder.decode();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        return new Result(elapsed / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static byte[] page(String envelope, String record) {
+        StringBuilder records = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            if (i > 0) {
+                records.append(',');
+            }
+            records.append(record.formatted(i));
+        }
+        return envelope.formatted(records).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private interface Decoder {
+        List<Article> decode() throws IOException;
+    }
+
+    private record Result(long nanos, long bytes) {
+    }
+}
@@ -1,10 +1,16 @@
 package pt.isec.literaturereviewhelper.mappers;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 import pt.isec.literaturereviewhelper.models.ScopusResponse;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -185,4 +191,53 @@ class ScopusMapperTest {
         assertEquals("Paper 2", out.get(1).title());
         assertEquals("Paper 3", out.get(2).title());
     }
+
+    @Test
+    void testMapStreamDecodesEntriesSplitAcrossBuffers() {
+        String json = """
+                {"search-results": {"opensearch:totalResults": "2", "entry": [
+                  {"dc:title": "AI Research Paper", "prism:coverDate": "2024-01-15",
+                   "prism:publicationName": "Journal of AI", "subtypeDescription": "Article",
+                   "dc:creator": "John Doe; Jane Smith", "affiliation": [{"affilname": "ISEC"}],
+                   "prism:doi": "10.1016/J.AI.2024.01",
+                   "link": [{"@ref": "self", "@href": "https://api.example.com"},
+                            {"@ref": "scopus", "@href": "https://example.com/article"}]},
+                  {"dc:title": "Second", "prism:aggregationType": "Journal"}
+                ]}}
+                """;
+
+        StepVerifier.create(mapper.mapStream(split(json, json.indexOf("Jane"))))
+                .assertNext(a -> {
+                    assertEquals("AI Research Paper", a.title());
+                    assertEquals("2024", a.publicationYear());
+                    assertEquals("Journal of AI", a.venue());
+                    assertEquals("Article", a.venueType());
+                    assertEquals(List.of("John Doe", "Jane Smith"), a.authors());
+                    assertEquals("https://example.com/article", a.link());
+                    assertEquals(Engines.SCOPUS, a.source());
+                    assertEquals("10.1016/j.ai.2024.01", a.doi());
+                })
+                .assertNext(a -> {
+                    assertEquals("Second", a.title());
+                    assertEquals("", a.doi());
+                    assertEquals("Journal", a.venueType());
+                    assertEquals(List.of(), a.authors());
+                    assertEquals("", a.link());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testMapStreamOfResponseWithoutEntriesIsEmpty() {
+        String json = "{\"search-results\": {\"opensearch:totalResults\": \"0\"}}";
+
+        StepVerifier.create(mapper.mapStream(split(json, 5))).verifyComplete();
+    }
+
+    private static Flux<DataBuffer> split(String json, int at) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, at)),
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, at, bytes.length)));
+    }
 }
@@ -1,10 +1,16 @@
 package pt.isec.literaturereviewhelper.mappers;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
 import pt.isec.literaturereviewhelper.models.SpringerResponse;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -156,4 +162,44 @@ class SpringerMapperTest {
         assertEquals(1, out.size());
         assertEquals(List.of("Alice Doe"), out.get(0).authors());
     }
+
+    @Test
+    void testMapStreamDecodesRecordsSplitAcrossBuffers() {
+        String json = """
+                {"apiMessage": "ok", "result": [{"total": "2"}], "records": [
+                  {"title": "Deep\\nLearning", "publicationDate": "2023-05-10", "doi": "10.1007/978-3-031-1_2",
+                   "publicationName": "Springer AI", "contentType": "Chapter",
+                   "creators": [{"creator": "Doe, John"}, {"creator": "  "}, {"name": "Smith, Jane"}],
+                   "url": [{"format": "html", "value": "https://link.springer.com/1"},
+                           {"format": "pdf", "value": "https://link.springer.com/1.pdf"}],
+                   "abstract": {"h1": "Abstract", "p": "Long text"}},
+                  {"title": "Second"}
+                ]}
+                """;
+
+        StepVerifier.create(mapper.mapStream(split(json, json.indexOf("Smith"))))
+                .assertNext(a -> {
+                    assertEquals("Deep Learning", a.title());
+                    assertEquals("2023", a.publicationYear());
+                    assertEquals("Springer AI", a.venue());
+                    assertEquals("Chapter", a.venueType());
+                    assertEquals(List.of("Doe, John", "Smith, Jane"), a.authors());
+                    assertEquals("https://link.springer.com/1", a.link());
+                    assertEquals(Engines.SPRINGER, a.source());
+                    assertEquals("10.1007/978-3-031-1_2", a.doi());
+                })
+                .assertNext(a -> {
+                    assertEquals("Second", a.title());
+                    assertEquals("", a.publicationYear());
+                    assertEquals("", a.link());
+                })
+                .verifyComplete();
+    }
+
+    private static Flux<DataBuffer> split(String json, int at) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, 0, at)),
+                DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, at, bytes.length)));
+    }
 }
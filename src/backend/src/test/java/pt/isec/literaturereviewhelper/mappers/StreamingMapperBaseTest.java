@@ -0,0 +1,81 @@
+package pt.isec.literaturereviewhelper.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import pt.isec.literaturereviewhelper.interfaces.IStreamingResultMapper;
+import pt.isec.literaturereviewhelper.models.Article;
+import reactor.core.publisher.Flux;
+
+/**
+ * Measures the peak heap held in body buffers while a large page is decoded. Buffers come from an unpooled Netty
+ * allocator, whose metric counts the bytes of every buffer not yet released.
+ */
+class StreamingMapperBaseTest {
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int RECORDS = 20_000;
+    /** Buffers the parser may hold: those requested ahead plus the one being read and the one being replenished. */
+    private static final long MAX_BUFFERED_BYTES = 8L * CHUNK_SIZE;
+
+    private final UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(allocator);
+
+    @Test
+    void testBibtexPagePeakHeapIsBoundedByPrefetch() {
+        // Arrange
+        StringBuilder bibtex = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            bibtex.append("@article{a").append(i).append(", TITLE = {Record ").append(i)
+                    .append(" on machine learning}, AUTHOR = {Doe, John and Smith, Jane}, YEAR = {2024}}\n");
+        }
+
+        // Act / Assert
+        assertPeakIsBounded(new HalMapper(), bibtex.toString());
+    }
+
+    @Test
+    void testJsonPagePeakHeapIsBoundedByPrefetch() {
+        // Arrange
+        StringBuilder json = new StringBuilder("{\"apiMessage\": \"ok\", \"records\": [");
+        for (int i = 0; i < RECORDS; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"contentType\": \"Article\", \"title\": \"Record ").append(i)
+                    .append(" on machine learning\", \"creators\": [{\"creator\": \"Doe, John\"}],")
+                    .append(" \"publicationName\": \"Springer AI\", \"publicationDate\": \"2023-05-10\",")
+                    .append(" \"abstract\": {\"p\": \"A fairly long abstract that the decoder skips.\"}}");
+        }
+        json.append("]}");
+
+        // Act / Assert
+        assertPeakIsBounded(new SpringerMapper(), json.toString());
+    }
+
+    private void assertPeakIsBounded(IStreamingResultMapper<?> mapper, String page) {
+        byte[] body = page.getBytes(StandardCharsets.UTF_8);
+        AtomicLong peak = new AtomicLong();
+        Flux<DataBuffer> chunks = Flux.range(0, (body.length + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                .map(chunk -> {
+                    int offset = chunk * CHUNK_SIZE;
+                    DataBuffer buffer = bufferFactory.allocateBuffer(CHUNK_SIZE)
+                            .write(body, offset, Math.min(CHUNK_SIZE, body.length - offset));
+                    peak.accumulateAndGet(allocator.metric().usedHeapMemory(), Math::max);
+                    return buffer;
+                });
+
+        List<Article> articles = mapper.mapStream(chunks).collectList().block();
+
+        assertEquals(RECORDS, articles.size());
+        assertTrue(body.length > 20 * MAX_BUFFERED_BYTES, "the page should dwarf the prefetch window");
+        assertTrue(peak.get() <= MAX_BUFFERED_BYTES,
+                "peak of " + peak.get() + " buffered bytes for a page of " + body.length + " bytes");
+        assertEquals(0, allocator.metric().usedHeapMemory());
+    }
+}
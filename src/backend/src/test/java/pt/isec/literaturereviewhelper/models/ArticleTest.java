@@ -1,8 +1,10 @@
 package pt.isec.literaturereviewhelper.models;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ArticleTest {
@@ -64,4 +66,55 @@ class ArticleTest {
 
         assertEquals(expected, article.toString());
     }
+
+    @Test
+    void testNormalizedViewIsDerivedOnCreation() {
+        Article article = new Article("Análise de Dados: Uma Revisão", "2023", "Proc. IEEE/ACM ICSE", "Conference",
+                List.of("Müller, José"), "http://example.com", Engines.HAL);
+
+        assertEquals(new Article.Normalized("analise de dados uma revisao", "proc ieee acm icse",
+                List.of("muller jose")), article.normalized());
+    }
+
+    @Test
+    void testNormalizedViewIsNotSerializedAndIsRebuiltWhenRead() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Article article = new Article("Análise", "2023", "Venue", "Journal", List.of("José"), "http://example.com",
+                Engines.HAL);
+
+        String json = mapper.writeValueAsString(article);
+        Article read = mapper.readValue(json, Article.class);
+
+        assertFalse(json.contains("normalized"));
+        assertEquals(article, read);
+        assertEquals("analise", read.normalized().title());
+    }
+
+    @Test
+    void testDoiIsSerializedAndDefaultsToEmpty() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Article withDoi = new Article("Title", "2023", "Venue", "Journal", List.of(), "http://example.com",
+                Engines.SCOPUS, "10.1000/182");
+
+        Article read = mapper.readValue(mapper.writeValueAsString(withDoi), Article.class);
+        Article withoutDoi = mapper.readValue("{\"title\": \"Title\", \"source\": \"HAL\"}", Article.class);
+
+        assertEquals("10.1000/182", read.doi());
+        assertEquals("", withoutDoi.doi());
+        assertEquals("", new Article("Title", "2023", "Venue", "Journal", List.of(), "", Engines.HAL).doi());
+    }
+
+    @Test
+    void testSourcesDefaultToTheSourceAndAreSerialized() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Article merged = new Article("Title", "2023", "Venue", "Journal", List.of(), "", Engines.SCOPUS, "",
+                Set.of(Engines.ARXIV, Engines.SCOPUS), null);
+
+        Article read = mapper.readValue(mapper.writeValueAsString(merged), Article.class);
+
+        assertEquals(Set.of(Engines.HAL), new Article("Title", "2023", "Venue", "Journal", List.of(), "",
+                Engines.HAL).sources());
+        assertEquals(merged, read);
+        assertEquals(List.of(Engines.SCOPUS, Engines.ARXIV), List.copyOf(merged.sources()));
+    }
 }
@@ -0,0 +1,39 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Mono;
+
+class CircuitBreakerRegistryTest {
+
+    @Test
+    void testEachEngineHasItsOwnBreaker() {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.withDefaults();
+
+        assertNotSame(registry.get(Engines.HAL), registry.get(Engines.ACM));
+        assertEquals(Engines.values().length, registry.getStates().size());
+        Arrays.stream(Engines.values())
+                .forEach(engine -> assertEquals(CircuitBreaker.State.CLOSED, registry.getStates().get(engine)));
+    }
+
+    @Test
+    void testThresholdIsReadFromEnvironment() {
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(new MockEnvironment()
+                .withProperty("upstream.circuit-breaker.failure-threshold", "1")
+                .withProperty("upstream.circuit-breaker.open-duration", "10m"));
+
+        registry.get(Engines.SCOPUS).protect(Mono.error(new IllegalStateException()), e -> true)
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        assertEquals(CircuitBreaker.State.OPEN, registry.getStates().get(Engines.SCOPUS));
+        assertEquals(CircuitBreaker.State.CLOSED, registry.getStates().get(Engines.HAL));
+    }
+}
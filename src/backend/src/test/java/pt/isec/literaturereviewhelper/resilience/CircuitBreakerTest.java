@@ -0,0 +1,105 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class CircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("HAL", 2, Duration.ofSeconds(30), now::get);
+    }
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        fail();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        fail();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        StepVerifier.create(breaker.protect(call(Mono.just("ok")), e -> true))
+                .verifyError(CircuitOpenException.class);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testSuccessResetsFailureCount() {
+        fail();
+        breaker.protect(call(Mono.just("ok")), e -> true).block();
+        fail();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testErrorsNotCountedAsFailuresKeepCircuitClosed() {
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(breaker.protect(call(Mono.error(new IllegalArgumentException())), e -> false))
+                    .verifyError(IllegalArgumentException.class);
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testHalfOpenLetsASingleProbeThroughAndClosesOnSuccess() {
+        fail();
+        fail();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        Sinks.One<String> probe = Sinks.one();
+        breaker.protect(call(probe.asMono()), e -> true).subscribe();
+        StepVerifier.create(breaker.protect(call(Mono.just("ok")), e -> true))
+                .verifyError(CircuitOpenException.class);
+        probe.tryEmitValue("recovered");
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testFailedProbeReopensCircuit() {
+        fail();
+        fail();
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        fail();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker("HAL", 0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker("HAL", 1, Duration.ZERO));
+    }
+
+    private void fail() {
+        StepVerifier.create(breaker.protect(call(Mono.error(new IllegalStateException("down"))), e -> true))
+                .verifyError(IllegalStateException.class);
+    }
+
+    private <T> Mono<T> call(Mono<T> result) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return result;
+        });
+    }
+}
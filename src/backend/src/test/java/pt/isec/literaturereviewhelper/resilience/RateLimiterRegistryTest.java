@@ -0,0 +1,45 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RateLimiterRegistryTest {
+
+    @Test
+    void testConfiguredEngineIsThrottled() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("upstream.rate-limit.arxiv.permits", "1")
+                .withProperty("upstream.rate-limit.arxiv.period", "3s");
+        RateLimiterRegistry registry = new RateLimiterRegistry(environment);
+
+        StepVerifier.withVirtualTime(() -> registry.acquire(Engines.ARXIV).then(registry.acquire(Engines.ARXIV)))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(2900))
+                .thenAwait(Duration.ofMillis(100))
+                .verifyComplete();
+    }
+
+    @Test
+    void testUnconfiguredEngineIsNotThrottled() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(new MockEnvironment()
+                .withProperty("upstream.rate-limit.arxiv.permits", "1"));
+
+        StepVerifier.create(Mono.when(registry.acquire(Engines.HAL), registry.acquire(Engines.HAL)))
+                .verifyComplete();
+    }
+
+    @Test
+    void testUnlimitedRegistryNeverWaits() {
+        RateLimiterRegistry registry = RateLimiterRegistry.unlimited();
+
+        for (Engines engine : Engines.values()) {
+            StepVerifier.create(registry.acquire(engine).then(registry.acquire(engine))).verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void testPermitsAreSpacedByTheInterval() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, Duration.ofSeconds(1), 1, now::get);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(SECOND / 2, limiter.reserve());
+        assertEquals(SECOND, limiter.reserve());
+    }
+
+    @Test
+    void testBurstIsAvailableAfterIdlePeriod() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofSeconds(1), 3, now::get);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(SECOND, limiter.reserve());
+
+        now.set(10 * SECOND);
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(SECOND, limiter.reserve());
+    }
+
+    @Test
+    void testIdleTimeDoesNotAccumulateBeyondBurst() {
+        AtomicLong now = new AtomicLong(0);
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofSeconds(1), 1, now::get);
+
+        limiter.reserve();
+        now.set(100 * SECOND);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(SECOND, limiter.reserve());
+    }
+
+    @Test
+    void testInvalidLimitsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, Duration.ofSeconds(1), 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, Duration.ofSeconds(1), 0));
+    }
+}
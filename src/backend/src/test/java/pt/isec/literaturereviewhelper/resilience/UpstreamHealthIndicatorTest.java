@@ -0,0 +1,29 @@
+package pt.isec.literaturereviewhelper.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.mock.env.MockEnvironment;
+
+import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Mono;
+
+class UpstreamHealthIndicatorTest {
+
+    @Test
+    void testReportsCircuitStateOfEveryEngine() {
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(new MockEnvironment()
+                .withProperty("upstream.circuit-breaker.failure-threshold", "1"));
+        registry.get(Engines.ARXIV).protect(Mono.error(new IllegalStateException()), e -> true)
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        Health health = new UpstreamHealthIndicator(registry).health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("OPEN", health.getDetails().get("ARXIV"));
+        assertEquals("CLOSED", health.getDetails().get("HAL"));
+    }
+}
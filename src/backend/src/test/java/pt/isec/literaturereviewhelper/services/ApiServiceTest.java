@@ -7,6 +7,7 @@ import pt.isec.literaturereviewhelper.factories.SearchEngineFactory;
 import pt.isec.literaturereviewhelper.interfaces.ISearchEngine;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -132,4 +133,24 @@ class ApiServiceTest {
         verify(factory).createSearchEngine(Engines.ACM);
         verify(engineMock).search(params);
     }
+
+    @Test
+    void testSearchIncrementallyDelegatesToEngine() {
+        Map<String, String> params = Map.of("q", "AI", "start", "0", "rows", "10");
+        Article expected = new Article(
+                "arXiv Paper", "2024", "arXiv",
+                "Preprint", List.of("Jane Doe"), "http://arxiv.link", Engines.ARXIV
+        );
+
+        when(factory.createSearchEngine(Engines.ARXIV)).thenReturn(engineMock);
+        when(engineMock.searchIncrementally(params))
+                .thenReturn(Flux.just(new SearchResultDto(List.of(expected), Map.of())));
+
+        StepVerifier.create(apiService.searchIncrementally(Engines.ARXIV, params))
+                .assertNext(page -> assertEquals(List.of(expected), page.getArticles()))
+                .verifyComplete();
+
+        verify(factory).createSearchEngine(Engines.ARXIV);
+        verify(engineMock).searchIncrementally(params);
+    }
 }
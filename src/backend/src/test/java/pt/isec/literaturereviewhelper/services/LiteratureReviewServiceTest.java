@@ -3,13 +3,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 
+import pt.isec.literaturereviewhelper.dtos.EngineStatusDto;
+import pt.isec.literaturereviewhelper.dtos.SearchEventDto;
+import pt.isec.literaturereviewhelper.dtos.SearchProgressDto;
 import pt.isec.literaturereviewhelper.dtos.SearchResultDto;
+import pt.isec.literaturereviewhelper.filters.DuplicateResultFilter;
+import pt.isec.literaturereviewhelper.interfaces.IResultFilter;
 import pt.isec.literaturereviewhelper.dtos.SearchResponseDto;
 import pt.isec.literaturereviewhelper.interfaces.IApiService;
 import pt.isec.literaturereviewhelper.models.Article;
 import pt.isec.literaturereviewhelper.models.Engines;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -157,6 +164,35 @@ class LiteratureReviewServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void testPerformSearch_ConcurrentKeyedEnginesEachSeeTheirOwnKeyOnEveryPage() {
+        // Arrange
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "AI");
+        params.put("source", "SCOPUS,SPRINGER");
+        Map<Engines, String> apiKeys = Map.of(Engines.SCOPUS, "scopus-key", Engines.SPRINGER, "springer-key");
+        Map<Engines, List<String>> keysSeen = new EnumMap<>(Engines.class);
+
+        // Each page reads the key only when it is fetched, after both engines have started
+        when(apiService.search(any(), any())).thenAnswer(invocation -> {
+            Engines engine = invocation.getArgument(0);
+            Map<String, String> engineParams = invocation.getArgument(1);
+            return Flux.range(0, 3)
+                    .concatMap(page -> Mono.delay(Duration.ofMillis(10)).map(tick -> engineParams.get("api_key")))
+                    .collectList()
+                    .doOnNext(keys -> keysSeen.put(engine, keys))
+                    .map(keys -> new SearchResultDto(List.of(), Map.of()));
+        });
+
+        // Act
+        service.performLiteratureSearch(params, apiKeys).block();
+
+        // Assert
+        assertEquals(List.of("scopus-key", "scopus-key", "scopus-key"), keysSeen.get(Engines.SCOPUS));
+        assertEquals(List.of("springer-key", "springer-key", "springer-key"), keysSeen.get(Engines.SPRINGER));
+        assertFalse(params.containsKey("api_key"));
+    }
+
     @Test
     void testPerformLiteratureSearch_WithDuplicateArticles_FiltersDuplicates() {
         Map<String, String> params = new HashMap<>();
@@ -197,4 +233,185 @@ class LiteratureReviewServiceTest {
         verify(apiService, times(1)).search(eq(Engines.HAL), any());
         verify(apiService, times(1)).search(eq(Engines.ACM), any());
     }
+
+    @Test
+    void testPerformLiteratureSearch_WithSameDoiAcrossEngines_FiltersDuplicates() {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "doi");
+        params.put("source", "SCOPUS,SPRINGER");
+
+        Article scopusArticle = new Article("Learning to rank: an overview", "2020", "Venue 1", "", List.of(), "",
+                Engines.SCOPUS, "10.1007/abc");
+        Article springerArticle = new Article("Overview of learning to rank", "2020", "Venue 2", "", List.of(), "",
+                Engines.SPRINGER, "10.1007/abc");
+
+        when(apiService.search(eq(Engines.SCOPUS), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(scopusArticle), Map.of())));
+        when(apiService.search(eq(Engines.SPRINGER), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(springerArticle), Map.of())));
+
+        Mono<SearchResponseDto> result = service.performLiteratureSearch(params, Map.of());
+
+        StepVerifier.create(result)
+                .assertNext(resp -> {
+                    assertEquals(1, resp.getTotalArticles());
+                    assertEquals(1, resp.getDuplicatedResultsRemoved());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testPerformLiteratureSearch_MergesCopiesFromSeveralEngines() {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "merge");
+        params.put("source", "ARXIV,SCOPUS");
+
+        Article preprint = new Article("Learning to Rank", "2019", "arXiv", "Preprint", List.of("Doe, Roe"),
+                "http://arxiv.org/abs/1", Engines.ARXIV);
+        Article published = new Article("Learning to rank", "2020", "Journal of IR", "Article", List.of("Doe"),
+                "https://scopus/1", Engines.SCOPUS, "10.1/ltr");
+
+        when(apiService.search(eq(Engines.ARXIV), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(preprint), Map.of())));
+        when(apiService.search(eq(Engines.SCOPUS), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(published), Map.of())));
+
+        Mono<SearchResponseDto> result = service.performLiteratureSearch(params, Map.of());
+
+        StepVerifier.create(result)
+                .assertNext(resp -> {
+                    assertEquals(1, resp.getTotalArticles());
+                    assertEquals(1, resp.getDuplicatedResultsRemoved());
+                    Article merged = resp.getArticles().get(0);
+                    assertEquals("Journal of IR", merged.venue());
+                    assertEquals("2020", merged.publicationYear());
+                    assertEquals("10.1/ltr", merged.doi());
+                    assertEquals(Set.of(Engines.ARXIV, Engines.SCOPUS), merged.sources());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testPerformLiteratureSearch_WithNearDuplicateTitles_ReportsThemSeparately() {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "near duplicates");
+        params.put("source", "HAL,ACM");
+
+        Article halArticle = new Article("Attention Is All You Need", "2017", "Venue 1", "", List.of(), "", Engines.HAL);
+        Article acmVariant = new Article("Attention is all you need: Transformers for sequence transduction", "2017",
+                "Venue 2", "", List.of(), "", Engines.ACM);
+
+        when(apiService.search(eq(Engines.HAL), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(halArticle), Map.of())));
+        when(apiService.search(eq(Engines.ACM), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(acmVariant), Map.of())));
+
+        Mono<SearchResponseDto> result = service.performLiteratureSearch(params, Map.of());
+
+        StepVerifier.create(result)
+                .assertNext(resp -> {
+                    assertEquals(1, resp.getTotalArticles());
+                    assertEquals(0, resp.getDuplicatedResultsRemoved());
+                    assertEquals(1, resp.getNearDuplicatedResultsRemoved());
+                    assertEquals(Set.of(Engines.HAL, Engines.ACM), resp.getArticles().get(0).sources());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testPerformSearch_WithInvalidNearDuplicateThreshold_ThrowsException() {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "AI");
+        params.put("near_duplicate_threshold", "1.5");
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> service.performLiteratureSearch(params, Map.of())
+        );
+
+        assertEquals("Parameter 'near_duplicate_threshold' must be a number greater than 0 and at most 1",
+                exception.getMessage());
+    }
+
+    @Test
+    void testPerformLiteratureSearch_ReportsEngineStatus() {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "partial");
+        params.put("source", "HAL,ACM");
+
+        Article halArticle = new Article("Hal Title", "2020", "Venue 1", "", List.of(), "", Engines.HAL);
+        EngineStatusDto halStatus = new EngineStatusDto(3, 2, Map.of(1, "502 Bad Gateway"));
+
+        when(apiService.search(eq(Engines.HAL), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(halArticle), Map.of(), halStatus)));
+        when(apiService.search(eq(Engines.ACM), any()))
+                .thenReturn(Mono.just(new SearchResultDto(List.of(), Map.of())));
+
+        Mono<SearchResponseDto> result = service.performLiteratureSearch(params, Map.of());
+
+        StepVerifier.create(result)
+                .assertNext(resp -> {
+                    assertEquals(List.of(halArticle), resp.getArticles());
+                    assertEquals(Map.of(Engines.HAL, halStatus), resp.getStatusByEngine());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testStreamLiteratureSearch_EmitsArticlesProgressAndSummary() {
+        Map<String, String> params = new HashMap<>();
+        params.put("q", "streaming");
+        params.put("source", "HAL,ACM");
+
+        Article halArticle = new Article("Duplicate Title", "2020", "Venue 1", "", List.of(), "", Engines.HAL);
+        Article acmDuplicate = new Article("duplicate title!", "2020", "Venue 2", "", List.of(), "", Engines.ACM);
+        Article acmUnique = new Article("Unique Title", "2021", "Venue 3", "", List.of(), "", Engines.ACM);
+        Map<String, Map<IResultFilter.Statistic, Integer>> acmStats = Map.of(
+                DuplicateResultFilter.class.getSimpleName(), Map.of(
+                        IResultFilter.Statistic.INPUT, 3,
+                        IResultFilter.Statistic.OUTPUT, 2,
+                        IResultFilter.Statistic.DROPPED, 1));
+
+        when(apiService.searchIncrementally(eq(Engines.HAL), any()))
+                .thenReturn(Flux.just(new SearchResultDto(List.of(halArticle), Map.of())));
+        when(apiService.searchIncrementally(eq(Engines.ACM), any()))
+                .thenReturn(Flux.just(new SearchResultDto(List.of(acmDuplicate, acmUnique), acmStats))
+                        .delayElements(Duration.ofMillis(50)));
+
+        Flux<SearchEventDto> result = service.streamLiteratureSearch(params, Map.of(Engines.ACM, "key"));
+
+        StepVerifier.create(result)
+                .assertNext(event -> assertEquals(halArticle, event.getData()))
+                .assertNext(event -> {
+                    SearchProgressDto progress = (SearchProgressDto) event.getData();
+                    assertEquals(SearchEventDto.Type.PROGRESS, event.getType());
+                    assertEquals(Engines.HAL, progress.getEngine());
+                    assertEquals(1, progress.getPagesReceived());
+                    assertEquals(1, progress.getArticles());
+                })
+                .assertNext(event -> assertEquals(acmUnique, event.getData()))
+                .assertNext(event -> assertEquals(Engines.ACM, ((SearchProgressDto) event.getData()).getEngine()))
+                .assertNext(event -> {
+                    SearchResponseDto summary = (SearchResponseDto) event.getData();
+                    assertEquals(SearchEventDto.Type.SUMMARY, event.getType());
+                    assertEquals("streaming", summary.getQuery());
+                    assertEquals(2, summary.getTotalArticles());
+                    assertEquals(2, summary.getDuplicatedResultsRemoved());
+                    assertEquals(0, summary.getNearDuplicatedResultsRemoved());
+                    assertEquals(1, summary.getArticlesByEngine().get(Engines.HAL));
+                    assertEquals(2, summary.getArticlesByEngine().get(Engines.ACM));
+                    assertEquals(acmStats, summary.getFilterImpactByEngine().get(Engines.ACM));
+                    assertTrue(summary.getArticles().isEmpty());
+                })
+                .verifyComplete();
+
+        verify(apiService).searchIncrementally(eq(Engines.ACM), argThat(p -> "key".equals(p.get("api_key"))));
+    }
+
+    @Test
+    void testStreamLiteratureSearch_WithInvalidSource_ThrowsException() {
+        Map<String, String> params = Map.of("q", "AI", "source", "INVALID");
+
+        assertThrows(IllegalArgumentException.class, () -> service.streamLiteratureSearch(params, Map.of()));
+    }
 }
@@ -0,0 +1,123 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.buffer.Unpooled;
+import io.netty.resolver.dns.DnsCacheEntry;
+
+class BoundedDnsCacheTest {
+    private static final DnsRecord[] NONE = new DnsRecord[0];
+
+    private final AtomicLong nanos = new AtomicLong();
+    private BoundedDnsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BoundedDnsCache(10, Duration.ofSeconds(5), Duration.ofMinutes(10), Duration.ofSeconds(30),
+                nanos::get);
+    }
+
+    @Test
+    void testEntriesExpireAfterTheirClampedTtl() throws Exception {
+        // Arrange
+        cache.cache("short.example", NONE, address("10.0.0.1"), 1, null);
+        cache.cache("long.example", NONE, address("10.0.0.2"), 86_400, null);
+
+        // Act
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        List<? extends DnsCacheEntry> shortBeforeMinimum = cache.get("short.example", NONE);
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+
+        // Assert
+        assertNotNull(shortBeforeMinimum);
+        assertNull(cache.get("short.example", NONE));
+        assertNull(cache.get("long.example", NONE));
+    }
+
+    @Test
+    void testAddressesOfAHostAreMergedWithoutDuplicates() throws Exception {
+        // Act
+        cache.cache("api.example", NONE, address("10.0.0.1"), 60, null);
+        cache.cache("api.example", NONE, address("10.0.0.2"), 60, null);
+        cache.cache("api.example", NONE, address("10.0.0.1"), 60, null);
+
+        // Assert
+        assertEquals(List.of(address("10.0.0.1"), address("10.0.0.2")),
+                cache.get("api.example", NONE).stream().map(DnsCacheEntry::address).toList());
+    }
+
+    @Test
+    void testMergedAddressesDoNotExtendTheEntry() throws Exception {
+        // Arrange
+        cache.cache("api.example", NONE, address("10.0.0.1"), 60, null);
+        nanos.addAndGet(Duration.ofSeconds(50).toNanos());
+
+        // Act
+        cache.cache("api.example", NONE, address("10.0.0.2"), 60, null);
+        cache.cache("api.example", NONE, new UnknownHostException("timeout"), null);
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // Assert
+        assertNull(cache.get("api.example", NONE));
+    }
+
+    @Test
+    void testFailuresAreCachedForTheNegativeTtl() {
+        // Arrange
+        UnknownHostException failure = new UnknownHostException("missing.example");
+
+        // Act
+        cache.cache("missing.example", NONE, failure, null);
+        DnsCacheEntry cached = cache.get("missing.example", NONE).get(0);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // Assert
+        assertEquals(failure, cached.cause());
+        assertNull(cache.get("missing.example", NONE));
+    }
+
+    @Test
+    void testFailureDoesNotEvictCachedAddresses() throws Exception {
+        // Arrange: one nameserver answered, another one timed out
+        cache.cache("api.example", NONE, address("10.0.0.1"), 60, null);
+
+        // Act
+        cache.cache("api.example", NONE, new UnknownHostException("timeout"), null);
+
+        // Assert
+        assertEquals(address("10.0.0.1"), cache.get("api.example", NONE).get(0).address());
+    }
+
+    @Test
+    void testLookupsWithAdditionalRecordsAreNotCached() throws Exception {
+        // Arrange
+        DnsRecord[] additionals = {
+                new DefaultDnsRawRecord("opt.", DnsRecordType.OPT, 0, Unpooled.EMPTY_BUFFER)
+        };
+
+        // Act
+        cache.cache("api.example", additionals, address("10.0.0.1"), 60, null);
+
+        // Assert
+        assertNull(cache.get("api.example", NONE));
+        assertEquals(0, cache.size());
+    }
+
+    private static InetAddress address(String ip) throws UnknownHostException {
+        return InetAddress.getByName(ip);
+    }
+}
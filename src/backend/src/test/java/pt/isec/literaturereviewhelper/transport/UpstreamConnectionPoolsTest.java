@@ -0,0 +1,111 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.internal.shaded.reactor.pool.PoolAcquirePendingLimitException;
+
+class UpstreamConnectionPoolsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DisposableServer server;
+    private UpstreamConnectionPools pools;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/slow", (request, response) ->
+                        response.sendString(Mono.just("ok").delayElement(Duration.ofMillis(300)))))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pools != null) {
+            pools.close();
+        }
+        server.disposeNow();
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void testHostPoolEnforcesItsOwnLimits() {
+        // Arrange
+        pools = new UpstreamConnectionPools(new MockEnvironment()
+                .withProperty("upstream.pool.max-connections", "16")
+                .withProperty("upstream.pool.acm.host", "127.0.0.1")
+                .withProperty("upstream.pool.acm.port", String.valueOf(server.port()))
+                .withProperty("upstream.pool.acm.max-connections", "1")
+                .withProperty("upstream.pool.acm.pending-acquire-max-count", "1"));
+        HttpClient client = HttpClient.create(pools.getProvider()).baseUrl("http://127.0.0.1:" + server.port());
+
+        // Act: one request holds the only connection, one waits for it, the third is turned away
+        List<Object> outcomes = Flux.range(0, 3)
+                .flatMap(i -> client.get().uri("/slow").responseContent().aggregate().asString()
+                        .<Object>map(body -> body)
+                        .onErrorResume(e -> Mono.just(e)))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertEquals(2, outcomes.stream().filter("ok"::equals).count());
+        assertInstanceOf(PoolAcquirePendingLimitException.class,
+                outcomes.stream().filter(Throwable.class::isInstance).findFirst().orElse(null));
+    }
+
+    @Test
+    void testPoolMetricsArePublished() {
+        // Arrange
+        pools = new UpstreamConnectionPools(new MockEnvironment());
+        HttpClient client = HttpClient.create(pools.getProvider()).baseUrl("http://127.0.0.1:" + server.port());
+
+        // Act
+        client.get().uri("/slow").responseContent().aggregate().asString().block(Duration.ofSeconds(10));
+
+        // Assert
+        assertNotNull(registry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", UpstreamConnectionPools.PROVIDER_NAME).gauge());
+        assertNotNull(registry.find("reactor.netty.connection.provider.pending.connections")
+                .tag("name", UpstreamConnectionPools.PROVIDER_NAME).gauge());
+        assertNotNull(registry.find("reactor.netty.connection.provider.pending.connections.time")
+                .tag("name", UpstreamConnectionPools.PROVIDER_NAME).timer());
+    }
+
+    @Test
+    void testHostPoolKeepsTheSharedSettings() {
+        // Arrange
+        pools = new UpstreamConnectionPools(new MockEnvironment()
+                .withProperty("upstream.pool.acm.host", "127.0.0.1")
+                .withProperty("upstream.pool.acm.port", String.valueOf(server.port()))
+                .withProperty("upstream.pool.acm.max-connections", "2"));
+        HttpClient client = HttpClient.create(pools.getProvider()).baseUrl("http://127.0.0.1:" + server.port());
+
+        // Act
+        client.get().uri("/slow").responseContent().aggregate().asString().block(Duration.ofSeconds(10));
+
+        // Assert
+        assertNotNull(registry.find("reactor.netty.connection.provider.max.connections")
+                .tag("name", UpstreamConnectionPools.PROVIDER_NAME)
+                .tag("remote.address", "127.0.0.1:" + server.port()).gauge());
+        assertEquals(2, registry.find("reactor.netty.connection.provider.max.connections")
+                .tag("name", UpstreamConnectionPools.PROVIDER_NAME).gauge().value());
+    }
+}
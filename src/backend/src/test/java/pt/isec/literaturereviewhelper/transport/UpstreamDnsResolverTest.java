@@ -0,0 +1,152 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.AddressResolver;
+
+class UpstreamDnsResolverTest {
+    private static final byte[] ANSWER = {10, 0, 0, 7};
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private EventLoopGroup group;
+    private DatagramSocket deadServer;
+    private Channel liveServer;
+    private UpstreamDnsResolver dnsResolver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        group = new NioEventLoopGroup(1);
+        deadServer = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        liveServer = new Bootstrap()
+                .group(group)
+                .channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<DatagramChannel>() {
+                    @Override
+                    protected void initChannel(DatagramChannel channel) {
+                        channel.pipeline().addLast(new DatagramDnsQueryDecoder(), new DatagramDnsResponseEncoder(),
+                                new AnsweringNameServer());
+                    }
+                })
+                .bind(InetAddress.getLoopbackAddress(), 0)
+                .sync()
+                .channel();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dnsResolver != null) {
+            dnsResolver.close();
+        }
+        liveServer.close().sync();
+        deadServer.close();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    void testNameserversAreRacedAndAnswersCached() throws Exception {
+        // Arrange: the primary never answers, the fallback does
+        dnsResolver = new UpstreamDnsResolver(new MockEnvironment()
+                .withProperty("custom.dns.server", "127.0.0.1")
+                .withProperty("custom.dns.port", String.valueOf(deadServer.getLocalPort()))
+                .withProperty("custom.dns.fallback-servers",
+                        "127.0.0.1:" + ((InetSocketAddress) liveServer.localAddress()).getPort())
+                .withProperty("custom.dns.query-timeout", "10s"));
+        dnsResolver.bindTo(registry);
+        AddressResolver<InetSocketAddress> resolver = dnsResolver.getResolverGroup().getResolver(group.next());
+
+        // Act
+        long start = System.nanoTime();
+        InetSocketAddress first = resolver.resolve(InetSocketAddress.createUnresolved("api.example.test", 443))
+                .get(5, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+        InetSocketAddress second = resolver.resolve(InetSocketAddress.createUnresolved("api.example.test", 443))
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(InetAddress.getByAddress(ANSWER), first.getAddress());
+        assertEquals(first.getAddress(), second.getAddress());
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(5), "the dead primary should not delay the answer");
+        assertEquals(1.0, registry.get("dns.cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("dns.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("dns.resolutions").tag("source", "nameservers").tag("result", "success")
+                .timer().count());
+    }
+
+    @Test
+    void testHostsFileOverridesDns(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path hosts = Files.writeString(directory.resolve("hosts"), "127.0.0.1 api.crossref.org\n");
+        dnsResolver = new UpstreamDnsResolver(new MockEnvironment()
+                .withProperty("custom.dns.server", "127.0.0.1")
+                .withProperty("custom.dns.port", String.valueOf(deadServer.getLocalPort()))
+                .withProperty("custom.dns.hosts-file", hosts.toString()));
+        dnsResolver.bindTo(registry);
+        AddressResolver<InetSocketAddress> resolver = dnsResolver.getResolverGroup().getResolver(group.next());
+
+        // Act
+        InetSocketAddress resolved = resolver.resolve(InetSocketAddress.createUnresolved("api.crossref.org", 443))
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(InetAddress.getByName("127.0.0.1"), resolved.getAddress());
+        assertEquals(1, registry.get("dns.resolutions").tag("source", "hosts_file").timer().count());
+    }
+
+    @Test
+    void testParsesNameserverAddresses() {
+        assertEquals(new InetSocketAddress("1.1.1.1", 53), UpstreamDnsResolver.parseServer("1.1.1.1"));
+        assertEquals(new InetSocketAddress("9.9.9.9", 5353), UpstreamDnsResolver.parseServer("9.9.9.9:5353"));
+        assertEquals(new InetSocketAddress("::1", 53), UpstreamDnsResolver.parseServer("::1"));
+        assertEquals(new InetSocketAddress("::1", 5353), UpstreamDnsResolver.parseServer("[::1]:5353"));
+    }
+
+    /**
+     * Answers every A question with {@link #ANSWER} and every other question with no records.
+     */
+    private static final class AnsweringNameServer extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramDnsQuery query) {
+            DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+            DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+            response.addRecord(DnsSection.QUESTION, question);
+            if (question.type() == DnsRecordType.A) {
+                response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(question.name(), DnsRecordType.A, 300,
+                        Unpooled.wrappedBuffer(ANSWER)));
+            }
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package pt.isec.literaturereviewhelper.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import pt.isec.literaturereviewhelper.models.Engines;
+
+class UpstreamTransferMetricsTest {
+    private final UpstreamTransferMetrics metrics = new UpstreamTransferMetrics();
+
+    @Test
+    void testWireBytesAreAttributedToTheEngineOfTheHost() {
+        // Arrange
+        metrics.registerHost(Engines.ACM, "api.crossref.org");
+
+        // Act
+        metrics.recordWireBytes("api.crossref.org", 100);
+        metrics.recordWireBytes("api.elsevier.com", 50);
+
+        // Assert
+        assertEquals(100, metrics.getWireBytes(Engines.ACM));
+        assertEquals(0, metrics.getWireBytes(Engines.SCOPUS));
+    }
+
+    @Test
+    void testCompressionRatioIsDecodedOverWireBytes() {
+        // Arrange
+        metrics.registerHost(Engines.SCOPUS, "api.elsevier.com");
+
+        // Act
+        double before = metrics.getCompressionRatio(Engines.SCOPUS);
+        metrics.recordWireBytes("api.elsevier.com", 200);
+        metrics.recordDecodedBytes(Engines.SCOPUS, 1000);
+
+        // Assert
+        assertTrue(Double.isNaN(before));
+        assertEquals(5.0, metrics.getCompressionRatio(Engines.SCOPUS));
+    }
+
+    @Test
+    void testWireByteCounterCountsBytesReadFromTheChannel() {
+        // Arrange
+        metrics.registerHost(Engines.HAL, "api.archives-ouvertes.fr");
+        EmbeddedChannel channel = new EmbeddedChannel(
+                metrics.newWireByteCounter(InetSocketAddress.createUnresolved("api.archives-ouvertes.fr", 443)));
+
+        // Act
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[300]));
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[12]));
+
+        // Assert
+        assertEquals(312, metrics.getWireBytes(Engines.HAL));
+        assertEquals(2, channel.inboundMessages().size());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void testMetersAreTaggedByEngine() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+        metrics.registerHost(Engines.SPRINGER, "api.springernature.com");
+
+        // Act
+        metrics.recordWireBytes("api.springernature.com", 250);
+        metrics.recordDecodedBytes(Engines.SPRINGER, 1000);
+
+        // Assert
+        assertEquals(250.0, registry.get("upstream.bytes.wire").tag("engine", "springer").functionCounter().count());
+        assertEquals(1000.0, registry.get("upstream.bytes.decoded").tag("engine", "springer")
+                .functionCounter().count());
+        assertEquals(4.0, registry.get("upstream.compression.ratio").tag("engine", "springer").gauge().value());
+    }
+}